@@ -1,3 +1,7 @@
+import groovy.json.JsonSlurper
+import java.io.BufferedOutputStream
+import java.io.DataOutputStream
+
 plugins {
     alias(libs.plugins.android.application)
 }
@@ -29,6 +33,87 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+    androidResources {
+        // The word pack is memory-mapped straight out of the APK
+        noCompress.add("pack")
+    }
+    sourceSets {
+        getByName("main") {
+            assets.srcDir(layout.buildDirectory.dir("generated/wordpack/assets"))
+        }
+    }
+}
+
+/**
+ * Compiles assets/words.json into the binary word pack read by WordPack.
+ * Keep the layout in sync with the format described in WordPack.java.
+ */
+abstract class GenerateWordPackTask : DefaultTask() {
+    @get:InputFile
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val wordsJson: RegularFileProperty
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @TaskAction
+    fun generate() {
+        @Suppress("UNCHECKED_CAST")
+        val categories = JsonSlurper().parse(wordsJson.get().asFile, "UTF-8") as List<Map<String, Any?>>
+
+        val strings = LinkedHashMap<String, Int>()
+        fun intern(value: Any?): Int = strings.getOrPut(value as String? ?: "") { strings.size }
+
+        val categoryEntries = ArrayList<IntArray>()
+        val wordTexts = ArrayList<Int>()
+        val difficulties = ArrayList<Int>()
+        for (category in categories) {
+            val firstWord = wordTexts.size
+            @Suppress("UNCHECKED_CAST")
+            val words = category["words"] as List<Map<String, Any?>>? ?: emptyList()
+            for (word in words) {
+                val text = word["text"] ?: continue
+                wordTexts.add(intern(text))
+                difficulties.add((word["difficulty"] as Number?)?.toInt() ?: 0)
+            }
+            categoryEntries.add(intArrayOf(
+                intern(category["id"]), intern(category["name"]), intern(category["emoji"]),
+                firstWord, wordTexts.size - firstWord))
+        }
+
+        val blobs = strings.keys.map { it.toByteArray(Charsets.UTF_8) }
+        val outFile = outputDir.get().file("words.pack").asFile
+        DataOutputStream(BufferedOutputStream(outFile.outputStream())).use { out ->
+            out.writeInt(0x444F5257) // "DORW"
+            out.writeInt(1)
+            out.writeInt(categoryEntries.size)
+            out.writeInt(wordTexts.size)
+            out.writeInt(blobs.size)
+            categoryEntries.forEach { entry -> entry.forEach { out.writeInt(it) } }
+            wordTexts.forEach { out.writeInt(it) }
+            difficulties.forEach { out.writeByte(it) }
+            repeat((4 - difficulties.size % 4) % 4) { out.writeByte(0) }
+            var offset = 0
+            out.writeInt(0)
+            blobs.forEach { offset += it.size; out.writeInt(offset) }
+            blobs.forEach { out.write(it) }
+        }
+    }
+}
+
+val generateWordPack = tasks.register<GenerateWordPackTask>("generateWordPack") {
+    wordsJson.set(layout.projectDirectory.file("src/main/assets/words.json"))
+    outputDir.set(layout.buildDirectory.dir("generated/wordpack/assets"))
+}
+
+tasks.named("preBuild") {
+    dependsOn(generateWordPack)
+}
+
+tasks.withType<Test>().configureEach {
+    dependsOn(generateWordPack)
+    systemProperty("dor.wordPack",
+        layout.buildDirectory.file("generated/wordpack/assets/words.pack").get().asFile.absolutePath)
 }
 
 dependencies {
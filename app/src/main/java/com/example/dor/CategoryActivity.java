@@ -41,12 +41,14 @@ public class CategoryActivity extends AppCompatActivity implements CategoryAdapt
         selectAllCheckIcon = findViewById(R.id.selectAllCheckIcon);
         selectedCountText = findViewById(R.id.selectedCountText);
 
-        // Get categories from repository
-        categories = WordRepository.getInstance().getCategories();
+        // Categories are filled in once the word bank has finished loading
+        categories = new ArrayList<>();
 
         adapter = new CategoryAdapter(categories, this);
         recyclerView.setAdapter(adapter);
 
+        WordRepository.getInstance().whenReady(this::onCategoriesLoaded);
+
         // Select All click listener
         selectAllCard.setOnClickListener(v -> onSelectAllClicked());
 
@@ -55,6 +57,15 @@ public class CategoryActivity extends AppCompatActivity implements CategoryAdapt
         updateSelectedCount();
     }
 
+    private void onCategoriesLoaded(List<Category> loaded) {
+        if (isDestroyed()) return;
+
+        categories.clear();
+        categories.addAll(loaded);
+        adapter.notifyDataSetChanged();
+        updateSelectedCount();
+    }
+
     private void onSelectAllClicked() {
         allSelected = !allSelected;
 
@@ -89,7 +100,7 @@ public class CategoryActivity extends AppCompatActivity implements CategoryAdapt
         selectedCountText.setText(count + " انتخاب شده");
 
         // Update allSelected state
-        allSelected = (count == categories.size());
+        allSelected = !categories.isEmpty() && count == categories.size();
         updateSelectAllUI();
     }
 
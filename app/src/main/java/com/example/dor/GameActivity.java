@@ -6,35 +6,49 @@ import android.animation.ObjectAnimator;
 import android.content.Intent;
 import android.graphics.Color;
 import android.os.Bundle;
-import android.os.CountDownTimer;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.view.Gravity;
 import android.view.View;
 import android.view.animation.AccelerateInterpolator;
 import android.widget.ImageButton;
 import android.widget.LinearLayout;
 import android.widget.TextView;
+import android.widget.Toast;
 
 import androidx.activity.OnBackPressedCallback;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.cardview.widget.CardView;
 
-import com.example.dor.models.GameEvent;
-import com.example.dor.models.GameMode;
+import com.example.dor.data.GameLogStore;
+import com.example.dor.data.GameSessionStore;
+import com.example.dor.data.WordRepository;
+import com.example.dor.engine.GameEngine;
+import com.example.dor.engine.GameReplay;
 import com.example.dor.models.Team;
+import com.example.dor.models.TeamEvents;
 import com.example.dor.models.Word;
+import com.example.dor.utils.AppExecutors;
+import com.example.dor.utils.GameClock;
 import com.example.dor.utils.GameManager;
+import com.example.dor.utils.HudRenderer;
 import com.example.dor.utils.SoundManager;
-import com.example.dor.views.CircularPlayerLayout;
+import com.example.dor.utils.TurnHighlighter;
+import com.example.dor.views.GameTableView;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 public class GameActivity extends AppCompatActivity {
 
+    // Boolean extra: play the last game back instead of starting a new one
+    public static final String EXTRA_REPLAY = "replay";
+
+    private static final int[] REPLAY_SPEEDS = {1, 2, 5, 10, 25, 50, 100};
+    private static final long REPLAY_FRAME_MILLIS = 16;
+
     private GameManager gameManager;
     private SoundManager soundManager;
 
@@ -48,39 +62,48 @@ public class GameActivity extends AppCompatActivity {
     private TextView nextTurnText;
     private View explosionOverlay;
     private com.google.android.material.button.MaterialButton skipButton;
-    private CircularPlayerLayout circularGameLayout;
+    private GameTableView gameTable;
     private ImageButton pauseButton;
 
     // Team timer TextViews
     private List<TextView> teamTimerViews;
 
-    // Player indicator views around the circle
-    private List<View> playerIndicatorViews;
-    private List<String> circularPlayerOrder;
+    // Draws the bomb, team and skip countdowns, touching views only on change
+    private HudRenderer hudRenderer;
+    private TurnHighlighter teamHighlighter;
+
+    // Bomb, team time, skip cooldown and tick sound all run on one clock
+    private GameClock gameClock;
+
+    // Rules and turn order; the activity feeds it input and draws its events
+    private GameEngine engine;
+
+    // Saves the game's log as it is played, off the main thread
+    private GameLogStore gameLogStore;
 
-    // Timers
-    private CountDownTimer bombTimer;
-    private CountDownTimer teamTimer;
-    private CountDownTimer skipCooldownTimer;
+    // Snapshots the game at every turn, so it survives the process being killed
+    private GameSessionStore gameSessionStore;
+
+    // Set when playing the last game back: the replay feeds the engine, taps change speed
+    private GameReplay replay;
+    private int replaySpeedIndex;
+    private long replayTime;
+    private long replayFrameAt;
+    private boolean replayPaused;
+    private final Handler replayHandler = new Handler(Looper.getMainLooper());
+    private final Runnable replayFrame = this::onReplayFrame;
 
     // State
-    private boolean isPlaying = false;
-    private boolean canSkip = false;
-    private boolean isPaused = false;
-    private long bombTimeRemaining;
-    private long lastTeamTimerUpdate;
-    private int currentTimerTeamId = -1; // Track which team the current timer belongs to
     private AlertDialog pauseDialog;
     private AlertDialog eliminatedDialog;
-
-    // Tracking for game events
-    private long wordStartTime;
-    private String currentWordText;
     private TextView penaltyText;
 
-    // Handler for tick sound
-    private Handler tickHandler;
-    private Runnable tickRunnable;
+    // True while the current player's name is shown and a tap starts the round
+    private boolean waitingForStart;
+
+    // Set while the end of a round is being shown, before the next turn or the winner
+    private boolean bombJustExploded;
+    private Team eliminatedTeam;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -89,12 +112,127 @@ public class GameActivity extends AppCompatActivity {
 
         gameManager = GameManager.getInstance();
         soundManager = SoundManager.getInstance();
+        gameClock = new GameClock(new GameClock.Listener() {
+            @Override
+            public void onSecondsChanged() {
+                onClockSecondsChanged();
+            }
+
+            @Override
+            public void onTick() {
+                if (isPlaying()) {
+                    soundManager.playTick();
+                }
+            }
+
+            // The clock only wakes us at deadlines; the engine decides what they mean
+
+            @Override
+            public void onSkipReady() {
+                engine.advanceTo(gameClock.getElapsedMillis());
+            }
+
+            @Override
+            public void onBombExploded() {
+                engine.advanceTo(gameClock.getElapsedMillis());
+            }
+
+            @Override
+            public void onTeamTimeUp() {
+                engine.advanceTo(gameClock.getElapsedMillis());
+            }
+        });
+        if (getIntent().getBooleanExtra(EXTRA_REPLAY, false)) {
+            replay = gameManager.startReplay(new EngineListener());
+            if (replay == null) {
+                finish();
+                return;
+            }
+            engine = replay.getEngine();
+        } else {
+            gameSessionStore = new GameSessionStore(this);
+            if (savedInstanceState == null) {
+                engine = gameManager.startGame(new EngineListener());
+            } else if (gameManager.getEngine() != null
+                    || gameManager.restoreSession(gameSessionStore.read())) {
+                // Recreated, or the process was killed in the background: carry on
+                engine = gameManager.resumeGame(new EngineListener());
+            } else {
+                finish();
+                return;
+            }
+            gameLogStore = new GameLogStore(this);
+            gameLogStore.start(gameManager.getGameLog());
+        }
 
         initViews();
         setupTeamTimers();
-        setupPlayerIndicators();
+        setupGameTable();
+
+        if (replay == null && savedInstanceState != null) {
+            continueGame();
+        } else {
+            showCurrentPlayerTurn();
+            saveSession();
+        }
+    }
+
+    /**
+     * Pick a game up where it was left. A round in progress comes back
+     * paused, behind the pause dialog.
+     */
+    private void continueGame() {
+        gameClock.setElapsedMillis(engine.getTime());
+        if (gameManager.isRestoringWords()) {
+            // After a cold start the words come back once the word bank is loaded
+            WordRepository.getInstance().loadCategoriesAsync(this, AppExecutors.io());
+            WordRepository.getInstance().whenReady(categories -> onRestoredWordsReady());
+            soundManager.initAsync(this, AppExecutors.io());
+        }
+
+        if (!isPlaying()) {
+            showCurrentPlayerTurn();
+            return;
+        }
+        if (!engine.isPaused()) {
+            engine.pause(engine.getTime());
+        }
+        gameClock.pause();
+
+        showRound();
+        updateNextTurnText();
+        gameClock.startBomb(engine.getBombRemainingMillis());
+        updateBombTimerDisplay(engine.getBombRemainingMillis());
+        startTeamTimer();
+        if (engine.getSkipRemainingMillis() > 0) {
+            startSkipCooldown();
+        } else {
+            onSkipCooldownFinished();
+        }
+        startTickSound();
+        showPauseDialog();
+    }
 
-        showCurrentPlayerTurn();
+    private void onRestoredWordsReady() {
+        if (isDestroyed()) return;
+
+        gameManager.restoreWords();
+        showCurrentWord();
+    }
+
+    /**
+     * Snapshot the game, written out off the main thread
+     */
+    private void saveSession() {
+        if (gameSessionStore != null) {
+            gameSessionStore.save(gameManager.saveSession());
+        }
+    }
+
+    private void clearSession() {
+        if (gameSessionStore != null) {
+            gameSessionStore.clear();
+        }
     }
 
     private void initViews() {
@@ -108,12 +246,10 @@ public class GameActivity extends AppCompatActivity {
         explosionOverlay = findViewById(R.id.explosionOverlay);
         penaltyText = findViewById(R.id.penaltyText);
         skipButton = findViewById(R.id.skipButton);
-        circularGameLayout = findViewById(R.id.circularGameLayout);
+        gameTable = findViewById(R.id.gameTable);
         pauseButton = findViewById(R.id.pauseButton);
 
         teamTimerViews = new ArrayList<>();
-        playerIndicatorViews = new ArrayList<>();
-        circularPlayerOrder = gameManager.getCircularPlayerOrder();
 
         // Center table click - start turn or next word
         centerTableCard.setOnClickListener(v -> onCenterTableClicked());
@@ -122,9 +258,13 @@ public class GameActivity extends AppCompatActivity {
         skipButton.setOnClickListener(v -> onSkipClicked());
 
         // Pause button
-        pauseButton.setOnClickListener(v -> showPauseDialog());
-
-        tickHandler = new Handler(Looper.getMainLooper());
+        pauseButton.setOnClickListener(v -> {
+            if (replay != null) {
+                toggleReplayPause();
+            } else {
+                showPauseDialog();
+            }
+        });
 
         // Handle back press
         getOnBackPressedDispatcher().addCallback(this, new OnBackPressedCallback(true) {
@@ -132,7 +272,11 @@ public class GameActivity extends AppCompatActivity {
             public void handleOnBackPressed() {
                 stopTimers();
                 stopTickSound();
-                gameManager.reset();
+                // A replay leaves the finished game to the winner screen
+                if (replay == null) {
+                    gameManager.reset();
+                    clearSession();
+                }
                 finish();
             }
         });
@@ -157,7 +301,6 @@ public class GameActivity extends AppCompatActivity {
 
             // Set background with team color
             timerView.setBackgroundColor(Color.parseColor(team.getColor()));
-            timerView.setText(formatTime(team.getRemainingTimeMillis()));
 
             LinearLayout.LayoutParams params = new LinearLayout.LayoutParams(
                     LinearLayout.LayoutParams.WRAP_CONTENT,
@@ -169,213 +312,86 @@ public class GameActivity extends AppCompatActivity {
             teamTimerViews.add(timerView);
         }
 
+        HudRenderer.TextTarget[] teamTargets = new HudRenderer.TextTarget[teamTimerViews.size()];
+        for (int i = 0; i < teamTargets.length; i++) {
+            teamTargets[i] = new TextViewTarget(teamTimerViews.get(i));
+        }
+        hudRenderer = new HudRenderer(new TextViewTarget(bombTimerText), new TextViewTarget(skipButton), teamTargets);
+        teamHighlighter = new TurnHighlighter(this::setTeamTimerHighlighted);
+
         updateTeamTimerHighlight();
     }
 
+    /**
+     * Redraw every team's timer, after the teams are set up or one is out
+     */
     private void updateTeamTimerHighlight() {
         List<Team> teams = gameManager.getTeams();
         for (int i = 0; i < teamTimerViews.size(); i++) {
-            TextView timerView = teamTimerViews.get(i);
-            Team team = teams.get(i);
-
-            if (team.isEliminated()) {
+            if (teams.get(i).isEliminated()) {
+                TextView timerView = teamTimerViews.get(i);
                 timerView.setAlpha(0.3f);
                 timerView.setText("حذف");
+                hudRenderer.invalidateTeam(i);
             } else {
-                timerView.setText(formatTime(team.getRemainingTimeMillis()));
-
-                if (i == gameManager.getCurrentTeamIndex()) {
-                    timerView.setAlpha(1f);
-                    timerView.setScaleX(1.2f);
-                    timerView.setScaleY(1.2f);
-                } else {
-                    timerView.setAlpha(0.7f);
-                    timerView.setScaleX(1f);
-                    timerView.setScaleY(1f);
-                }
+                setTeamTimerHighlighted(i, false);
             }
         }
+        teamHighlighter.reset();
+        moveTeamHighlight();
     }
 
-    private void setupPlayerIndicators() {
-        // Remove all except the first child (center card)
-        while (circularGameLayout.getChildCount() > 1) {
-            circularGameLayout.removeViewAt(1);
-        }
-        playerIndicatorViews.clear();
-
-        // Refresh the circular player order from game manager
-        circularPlayerOrder = gameManager.getCircularPlayerOrder();
-
-        float density = getResources().getDisplayMetrics().density;
-        int playerCount = circularPlayerOrder.size();
+    /**
+     * Pass the highlight to the current team, touching only its timer and
+     * the one it takes over from
+     */
+    private void moveTeamHighlight() {
+        int current = gameManager.getCurrentTeamIndex();
+        teamHighlighter.moveTo(current >= 0 && current < teamTimerViews.size() ? current : TurnHighlighter.NONE);
+    }
 
-        android.util.Log.d("GameActivity", "Setting up " + playerCount + " player indicators");
+    private void setTeamTimerHighlighted(int teamIndex, boolean highlighted) {
+        Team team = gameManager.getTeams().get(teamIndex);
+        if (team.isEliminated()) return;
 
-        if (playerCount == 0) {
-            android.util.Log.e("GameActivity", "No players found in circularPlayerOrder!");
-            return;
-        }
-
-        // Calculate indicator size based on player count - 40% larger than original
-        int indicatorSize;
-        int dotSize;
-        float textSize;
-        if (playerCount <= 4) {
-            indicatorSize = (int) (100 * density);  // 70 * 1.44
-            dotSize = (int) (26 * density);         // 18 * 1.44
-            textSize = 16;                           // 11 * 1.44
-        } else if (playerCount <= 6) {
-            indicatorSize = (int) (94 * density);   // 65 * 1.44
-            dotSize = (int) (23 * density);         // 16 * 1.44
-            textSize = 14;                           // 10 * 1.44
+        TextView timerView = teamTimerViews.get(teamIndex);
+        hudRenderer.renderTeam(teamIndex, team.getRemainingTimeMillis());
+        if (highlighted) {
+            timerView.setAlpha(1f);
+            timerView.setScaleX(1.2f);
+            timerView.setScaleY(1.2f);
         } else {
-            indicatorSize = (int) (79 * density);   // 55 * 1.44
-            dotSize = (int) (20 * density);         // 14 * 1.44
-            textSize = 13;                           // 9 * 1.44
-        }
-
-        for (int i = 0; i < playerCount; i++) {
-            String playerName = circularPlayerOrder.get(i);
-            String teamColor = gameManager.getTeamColorByPlayerName(playerName);
-
-            // Create a container for dot + name
-            LinearLayout playerContainer = new LinearLayout(this);
-            playerContainer.setOrientation(LinearLayout.VERTICAL);
-            playerContainer.setGravity(Gravity.CENTER);
-
-            // Create dot/circle indicator
-            View dot = new View(this);
-            LinearLayout.LayoutParams dotParams = new LinearLayout.LayoutParams(dotSize, dotSize);
-            dotParams.gravity = Gravity.CENTER;
-            dot.setLayoutParams(dotParams);
-            dot.setBackground(getDrawable(R.drawable.player_dot));
-            dot.getBackground().setTint(Color.parseColor(teamColor));
-
-            // Create name text
-            TextView nameText = new TextView(this);
-            nameText.setText(truncateName(playerName));
-            nameText.setTextSize(textSize);
-            nameText.setTextColor(Color.parseColor(teamColor));
-            nameText.setGravity(Gravity.CENTER);
-            nameText.setMaxLines(1);
-
-            playerContainer.addView(dot);
-            playerContainer.addView(nameText);
-
-            // Set layout params
-            LinearLayout.LayoutParams params = new LinearLayout.LayoutParams(indicatorSize, indicatorSize);
-            playerContainer.setLayoutParams(params);
-
-            circularGameLayout.addView(playerContainer);
-            playerIndicatorViews.add(playerContainer);
+            timerView.setAlpha(0.7f);
+            timerView.setScaleX(1f);
+            timerView.setScaleY(1f);
         }
-
-        // Initial rotation without animation - put first player at bottom
-        String currentPlayerName = gameManager.getCurrentPlayerName();
-        for (int i = 0; i < circularPlayerOrder.size(); i++) {
-            if (circularPlayerOrder.get(i).equals(currentPlayerName)) {
-                circularGameLayout.rotateToPlayer(i, false);
-                break;
-            }
-        }
-
-        updateCurrentPlayerHighlight();
-        android.util.Log.d("GameActivity", "Created " + playerIndicatorViews.size() + " player indicators");
     }
 
-    private String truncateName(String name) {
-        if (name.length() > 24) {
-            return name.substring(0, 23) + "..";
-        }
-        return name;
+    private void setupGameTable() {
+        // Refresh the seats from game manager
+        gameTable.setCenterSize(centerTableCard.getLayoutParams().width);
+        gameTable.setSeating(gameManager.getSeating(), gameManager.getCurrentSeat());
     }
 
     private void updateCurrentPlayerHighlight() {
-        String currentPlayerName = gameManager.getCurrentPlayerName();
-        int currentPlayerIndex = -1;
-
-        // First, stop ALL animations and reset ALL players to default state
-        for (int i = 0; i < playerIndicatorViews.size(); i++) {
-            View container = playerIndicatorViews.get(i);
-
-            // Find current player index
-            if (circularPlayerOrder.get(i).equals(currentPlayerName)) {
-                currentPlayerIndex = i;
-            }
-
-            // Stop any existing animation first
-            Object tag = container.getTag(R.id.playerNameText);
-            if (tag instanceof ObjectAnimator[]) {
-                for (ObjectAnimator anim : (ObjectAnimator[]) tag) {
-                    anim.cancel();
-                }
-                container.setTag(R.id.playerNameText, null);
-            }
-
-            // Reset all properties immediately - all players at normal size
-            container.setScaleX(1f);
-            container.setScaleY(1f);
-            container.setAlpha(0.6f);  // Slightly more visible
-            container.setBackground(null);
-            container.setPadding(0, 0, 0, 0);
-
-            // Reset dot and text
-            LinearLayout playerContainer = (LinearLayout) container;
-            View dot = playerContainer.getChildAt(0);
-            TextView nameText = (TextView) playerContainer.getChildAt(1);
-            String playerName = circularPlayerOrder.get(i);
-            String teamColor = gameManager.getTeamColorByPlayerName(playerName);
-
-            dot.setBackground(getDrawable(R.drawable.player_dot));
-            dot.getBackground().setTint(Color.parseColor(teamColor));
-            nameText.setTextColor(Color.parseColor(teamColor));
-            nameText.setTypeface(null, android.graphics.Typeface.NORMAL);
-            nameText.setShadowLayer(0, 0, 0, Color.TRANSPARENT);
-        }
-
-        // Rotate the circular layout to put current player at bottom
-        if (currentPlayerIndex >= 0) {
-            circularGameLayout.rotateToPlayer(currentPlayerIndex, true);
-        }
-
-        // Now highlight only the current player
-        for (int i = 0; i < playerIndicatorViews.size(); i++) {
-            String playerName = circularPlayerOrder.get(i);
-            if (playerName.equals(currentPlayerName)) {
-                View container = playerIndicatorViews.get(i);
-                LinearLayout playerContainer = (LinearLayout) container;
-                View dot = playerContainer.getChildAt(0);
-                TextView nameText = (TextView) playerContainer.getChildAt(1);
-                String teamColor = gameManager.getTeamColorByPlayerName(playerName);
-
-                // Current player: full opacity and 20% larger
-                container.setAlpha(1f);
-                container.setScaleX(1.2f);
-                container.setScaleY(1.2f);
-
-                // Keep normal dot style, just full color
-                dot.setBackground(getDrawable(R.drawable.player_dot));
-                dot.getBackground().setTint(Color.parseColor(teamColor));
-
-                // Make name text same color but bold
-                nameText.setTextColor(Color.parseColor(teamColor));
-                nameText.setTypeface(nameText.getTypeface(), android.graphics.Typeface.BOLD);
-
+        // Highlight the current player and turn them to the bottom
+        gameTable.setCurrentSeat(gameManager.getCurrentSeat(), true);
+    }
 
-                break; // Only one current player
-            }
-        }
+    private boolean isPlaying() {
+        return engine.getPhase() == GameEngine.Phase.PLAYING;
     }
 
     private void showCurrentPlayerTurn() {
-        isPlaying = false;
-        canSkip = false;
+        waitingForStart = true;
         skipButton.setEnabled(false);
 
         String playerName = gameManager.getCurrentPlayerName();
         playerNameText.setText(playerName);
         playerNameText.setVisibility(View.VISIBLE);
+        if (replay != null) {
+            tapToStartText.setText(getString(R.string.replay_speed, REPLAY_SPEEDS[replaySpeedIndex]));
+        }
         tapToStartText.setVisibility(View.VISIBLE);
         wordText.setVisibility(View.GONE);
 
@@ -392,9 +408,7 @@ public class GameActivity extends AppCompatActivity {
         updateNextTurnText();
 
         // Reset bomb timer display
-        GameMode mode = gameManager.getGameMode();
-        bombTimeRemaining = mode.getBombTimeMillis();
-        updateBombTimerDisplay();
+        updateBombTimerDisplay(engine.getBombRemainingMillis());
     }
 
     private void updateNextTurnText() {
@@ -407,400 +421,317 @@ public class GameActivity extends AppCompatActivity {
     }
 
     private void onCenterTableClicked() {
-        if (!isPlaying) {
+        if (replay != null) {
+            nextReplaySpeed();
+            return;
+        }
+        if (gameManager.isRestoringWords()) return;
+
+        long now = gameClock.getElapsedMillis();
+        if (waitingForStart) {
             // Start the turn
-            startTurn();
-        } else {
+            engine.startTurn(now);
+        } else if (isPlaying()) {
             // Word guessed correctly - move to next team
-            onWordGuessed();
+            engine.wordGuessed(now);
         }
     }
 
-    private void startTurn() {
-        isPlaying = true;
+    private void onSkipClicked() {
+        if (gameManager.isRestoringWords()) return;
 
-        // Hide player name, show word
-        playerNameText.setVisibility(View.GONE);
-        tapToStartText.setVisibility(View.GONE);
-        wordText.setVisibility(View.VISIBLE);
+        engine.skip(gameClock.getElapsedMillis());
+    }
 
-        // Get and show first word
-        Word word = gameManager.nextWord();
-        if (word != null) {
+    private void showCurrentWord() {
+        Word word = gameManager.getCurrentWord();
+        if (gameManager.isRestoringWords()) {
+            wordText.setText("");
+        } else if (word != null) {
             wordText.setText(word.getText());
-            currentWordText = word.getText();
         } else {
             wordText.setText("کلمه‌ای نیست!");
-            currentWordText = "";
         }
-        wordStartTime = System.currentTimeMillis();
-
-        // Start bomb timer
-        startBombTimer();
-
-        // Start team timer
-        startTeamTimer();
-
-        // Start skip cooldown
-        startSkipCooldown();
-
-        // Start tick sound
-        startTickSound();
-    }
-
-    private void startBombTimer() {
-        GameMode mode = gameManager.getGameMode();
-        bombTimeRemaining = mode.getBombTimeMillis();
-
-        bombTimer = new CountDownTimer(bombTimeRemaining, 100) {
-            @Override
-            public void onTick(long millisUntilFinished) {
-                bombTimeRemaining = millisUntilFinished;
-                updateBombTimerDisplay();
-
-                // Start intense mode in last 10 seconds
-                int seconds = (int) (millisUntilFinished / 1000);
-                if (seconds <= 10 && !soundManager.isIntenseMode()) {
-                    soundManager.setIntenseMode(true);
-                }
-            }
-
-            @Override
-            public void onFinish() {
-                onBombExploded();
-            }
-        }.start();
     }
 
     private void startTeamTimer() {
-        Team currentTeam = gameManager.getCurrentTeam();
-        if (currentTeam == null) return;
+        if (replay != null) return;
 
-        lastTeamTimerUpdate = System.currentTimeMillis();
-        currentTimerTeamId = currentTeam.getId(); // Track which team this timer is for
-
-        teamTimer = new CountDownTimer(currentTeam.getRemainingTimeMillis(), 100) {
-            private final int timerTeamId = currentTimerTeamId; // Capture the team ID for this timer instance
-
-            @Override
-            public void onTick(long millisUntilFinished) {
-                // Only update team time if actually playing (prevents updates during waiting for player click)
-                if (!isPlaying) return;
-
-                // Verify this timer still belongs to the current team (prevent race conditions)
-                Team team = gameManager.getCurrentTeam();
-                if (team == null || team.getId() != timerTeamId) {
-                    cancel();
-                    return;
-                }
-
-                long elapsed = System.currentTimeMillis() - lastTeamTimerUpdate;
-                lastTeamTimerUpdate = System.currentTimeMillis();
-                team.subtractTime(elapsed);
-                updateTeamTimerDisplay(gameManager.getCurrentTeamIndex());
-
-                if (team.getRemainingTimeMillis() <= 0) {
-                    cancel();
-                    onTeamEliminated();
-                }
-            }
+        // The clock wakes us for the display and the deadline; the engine keeps the budget
+        gameClock.startTeam(engine.getTeamRemainingMillis(engine.getCurrentTeam()));
+    }
 
-            @Override
-            public void onFinish() {
-                // Verify this timer still belongs to the current team
-                Team team = gameManager.getCurrentTeam();
-                if (team == null || team.getId() != timerTeamId) {
-                    return;
-                }
+    /**
+     * Stop counting down the current team's time and show what the engine settled on
+     */
+    private void stopTeamTimer() {
+        if (!gameClock.isTeamRunning()) return;
 
-                // Finalize any remaining elapsed time
-                if (isPlaying) {
-                    long elapsed = System.currentTimeMillis() - lastTeamTimerUpdate;
-                    team.subtractTime(elapsed);
-                    lastTeamTimerUpdate = System.currentTimeMillis();
-                    updateTeamTimerDisplay(gameManager.getCurrentTeamIndex());
-                }
-
-                // Only eliminate if team actually has no time remaining
-                // (CountDownTimer's onFinish might fire due to timing drift even if team has time)
-                if (team.getRemainingTimeMillis() <= 0) {
-                    onTeamEliminated();
-                } else {
-                    // Timer finished but team still has time - restart timer with remaining time
-                    android.util.Log.w("GameActivity", "Timer onFinish but team has " +
-                        team.getRemainingTimeMillis() + "ms remaining - restarting timer");
-                    startTeamTimer();
-                }
-            }
-        }.start();
+        gameClock.stopTeam();
+        updateTeamTimerDisplay(gameManager.getCurrentTeamIndex());
     }
 
     private void startSkipCooldown() {
-        canSkip = false;
         skipButton.setEnabled(false);
         skipButton.setText("صبر کنید...");
+        hudRenderer.invalidateSkip();
 
-        GameMode mode = gameManager.getGameMode();
+        if (replay == null) {
+            gameClock.startSkipCooldown(engine.getSkipRemainingMillis());
+        }
+    }
 
-        skipCooldownTimer = new CountDownTimer(mode.getSkipCooldownMillis(), 1000) {
-            @Override
-            public void onTick(long millisUntilFinished) {
-                skipButton.setText("رد کردن (" + (millisUntilFinished / 1000) + ")");
-            }
+    private void onSkipCooldownFinished() {
+        skipButton.setEnabled(replay == null);
+        skipButton.setText(R.string.skip_word);
+        hudRenderer.invalidateSkip();
+    }
 
-            @Override
-            public void onFinish() {
-                canSkip = true;
-                skipButton.setEnabled(true);
-                skipButton.setText(R.string.skip_word);
+    private void onClockSecondsChanged() {
+        // Fire anything due first, so the display never runs ahead of the rules
+        engine.advanceTo(gameClock.getElapsedMillis());
+
+        if (gameClock.isBombRunning()) {
+            long bombTimeRemaining = gameClock.getBombRemainingMillis();
+            updateBombTimerDisplay(bombTimeRemaining);
+
+            // Start intense mode in last 10 seconds
+            if (bombTimeRemaining <= 10000 && !soundManager.isIntenseMode()) {
+                soundManager.setIntenseMode(true);
             }
-        }.start();
+        }
+
+        if (gameClock.isTeamRunning()) {
+            updateTeamTimerDisplay(gameManager.getCurrentTeamIndex());
+        }
+
+        if (isPlaying() && !engine.canSkip() && gameClock.isSkipCoolingDown()) {
+            hudRenderer.renderSkipCooldown(gameClock.getSkipRemainingMillis());
+        }
     }
 
     private void startTickSound() {
-        tickRunnable = new Runnable() {
-            @Override
-            public void run() {
-                if (isPlaying) {
-                    soundManager.playTick();
-                    tickHandler.postDelayed(this, 1000);
-                }
-            }
-        };
-        tickHandler.post(tickRunnable);
+        if (replay != null) return;
+
+        gameClock.startTicks();
     }
 
     private void stopTickSound() {
-        if (tickHandler != null && tickRunnable != null) {
-            tickHandler.removeCallbacks(tickRunnable);
-        }
+        gameClock.stopTicks();
         // Stop intense mode
         soundManager.setIntenseMode(false);
     }
 
-    private void updateBombTimerDisplay() {
-        int seconds = (int) (bombTimeRemaining / 1000);
-        bombTimerText.setText("💣 " + seconds);
-
-        // Change color based on time remaining
-        if (seconds <= 5) {
-            bombTimerText.setTextColor(Color.parseColor("#F44336")); // Red
-        } else if (seconds <= 10) {
-            bombTimerText.setTextColor(Color.parseColor("#FF9800")); // Orange
-        } else {
-            bombTimerText.setTextColor(Color.parseColor("#FDD835")); // Yellow
-        }
+    private void updateBombTimerDisplay(long bombTimeRemaining) {
+        // Color changes with time remaining: yellow, orange from 10s, red from 5s
+        hudRenderer.renderBomb(bombTimeRemaining);
     }
 
     private void updateTeamTimerDisplay(int teamIndex) {
         if (teamIndex >= 0 && teamIndex < teamTimerViews.size()) {
             Team team = gameManager.getTeams().get(teamIndex);
-            TextView timerView = teamTimerViews.get(teamIndex);
-            timerView.setText(formatTime(team.getRemainingTimeMillis()));
-        }
-    }
-
-    private void onWordGuessed() {
-        // Play word correct sound
-        soundManager.playWordCorrect();
-        soundManager.vibrateShort();
-
-        // Record the word event for current team before moving to next
-        Team currentTeam = gameManager.getCurrentTeam();
-        if (currentTeam != null && currentWordText != null && !currentWordText.isEmpty()) {
-            long timeSpent = System.currentTimeMillis() - wordStartTime;
-            GameEvent event = new GameEvent(GameEvent.EventType.WORD_GUESSED, currentWordText, timeSpent, 0);
-            currentTeam.addGameEvent(event);
-        }
-
-        // Stop only team timer, bomb timer continues!
-        if (teamTimer != null) {
-            teamTimer.cancel();
-            // Finalize team time - subtract any remaining time since last tick
-            if (currentTeam != null && isPlaying) {
-                long elapsed = System.currentTimeMillis() - lastTeamTimerUpdate;
-                currentTeam.subtractTime(elapsed);
-                updateTeamTimerDisplay(gameManager.getCurrentTeamIndex());
+            long remaining = teamIndex == gameManager.getCurrentTeamIndex() && gameClock.isTeamRunning()
+                    ? gameClock.getTeamRemainingMillis()
+                    : team.getRemainingTimeMillis();
+            hudRenderer.renderTeam(teamIndex, remaining);
+        }
+    }
+
+    /**
+     * Advance the replay by the real time since the last frame times the
+     * speed, and draw the countdowns from the engine
+     */
+    private void onReplayFrame() {
+        long now = SystemClock.uptimeMillis();
+        replayTime += (now - replayFrameAt) * REPLAY_SPEEDS[replaySpeedIndex];
+        replayFrameAt = now;
+        replay.advanceTo(replayTime);
+
+        if (isPlaying()) {
+            int team = engine.getCurrentTeam();
+            updateBombTimerDisplay(engine.getBombRemainingMillis());
+            hudRenderer.renderTeam(team, engine.getTeamRemainingMillis(team));
+            if (!engine.canSkip()) {
+                hudRenderer.renderSkipCooldown(engine.getSkipRemainingMillis());
             }
         }
-        if (skipCooldownTimer != null) {
-            skipCooldownTimer.cancel();
-        }
-
-        // Play next turn sound
-        soundManager.playNextTurn();
-
-        // Move to next team
-        gameManager.moveToNextTeam();
 
-        // Check if game is over
-        if (gameManager.isGameOver()) {
-            stopTimers();
-            stopTickSound();
-            showWinner();
-            return;
-        }
-
-        // Update highlights
-        updateTeamTimerHighlight();
-        updateCurrentPlayerHighlight();
-
-        // Show new word immediately (no need to show player name mid-round)
-        Word word = gameManager.nextWord();
-        if (word != null) {
-            wordText.setText(word.getText());
-            currentWordText = word.getText();
+        if (replay.isFinished()) {
+            // Let the last moment show, then go back to the winner screen
+            replayHandler.postDelayed(this::finish, 1500);
         } else {
-            wordText.setText("کلمه‌ای نیست!");
-            currentWordText = "";
+            replayHandler.postDelayed(replayFrame, REPLAY_FRAME_MILLIS);
         }
-        wordStartTime = System.currentTimeMillis();
-
-        // Start team timer for new team
-        startTeamTimer();
-
-        // Restart skip cooldown
-        startSkipCooldown();
+    }
 
-        // Update next turn text
-        updateNextTurnText();
+    private void startReplayFrames() {
+        replayFrameAt = SystemClock.uptimeMillis();
+        replayHandler.removeCallbacks(replayFrame);
+        replayHandler.post(replayFrame);
     }
 
-    private void onSkipClicked() {
-        if (!canSkip || !isPlaying) return;
+    private void nextReplaySpeed() {
+        replaySpeedIndex = (replaySpeedIndex + 1) % REPLAY_SPEEDS.length;
+        String speed = getString(R.string.replay_speed, REPLAY_SPEEDS[replaySpeedIndex]);
+        tapToStartText.setText(speed);
+        Toast.makeText(this, speed, Toast.LENGTH_SHORT).show();
+    }
 
-        // Get new word
-        Word word = gameManager.skipWord();
-        if (word != null) {
-            wordText.setText(word.getText());
+    private void toggleReplayPause() {
+        replayPaused = !replayPaused;
+        if (replayPaused) {
+            replayHandler.removeCallbacks(replayFrame);
+        } else {
+            startReplayFrames();
         }
+    }
 
-        // Restart skip cooldown
-        if (skipCooldownTimer != null) {
-            skipCooldownTimer.cancel();
+    /**
+     * Run once the end of the round has been shown: after the explosion
+     * effect if the bomb went off, otherwise right away
+     */
+    private void afterRoundEnd(Runnable next) {
+        if (bombJustExploded) {
+            bombJustExploded = false;
+            new Handler(Looper.getMainLooper()).postDelayed(next, 1500);
+        } else {
+            next.run();
         }
-        startSkipCooldown();
     }
 
-    private void onBombExploded() {
-        // Get penalty amount for display
-        GameMode mode = gameManager.getGameMode();
-        long penaltyMillis = mode.getPenaltyMillis();
-        int penaltySeconds = (int) (penaltyMillis / 1000);
-
-        // Update penalty text before showing explosion
-        if (penaltyText != null) {
-            penaltyText.setText("-" + penaltySeconds + " ثانیه");
-        }
+    /**
+     * Draws what the engine reports. Teams, words and game events are already
+     * up to date when these are called.
+     */
+    private class EngineListener implements GameEngine.Listener {
 
-        // Play explosion effects
-        soundManager.playExplosion();
-        soundManager.vibrate();
-        showExplosionEffect();
+        @Override
+        public void onTurnStarted(int team, int player) {
+            showRound();
 
-        // Record bomb event for current team before applying penalty
-        Team currentTeam = gameManager.getCurrentTeam();
-        if (currentTeam != null && currentWordText != null && !currentWordText.isEmpty()) {
-            long timeSpent = System.currentTimeMillis() - wordStartTime;
-            GameEvent event = new GameEvent(GameEvent.EventType.BOMB_EXPLODED, currentWordText, timeSpent, penaltyMillis);
-            currentTeam.addGameEvent(event);
+            if (replay == null) {
+                gameClock.startBomb(engine.getBombRemainingMillis());
+            }
+            startTeamTimer();
+            startSkipCooldown();
+            startTickSound();
         }
 
-        // Finalize team time - subtract any remaining time since last tick before stopping timers
-        if (currentTeam != null && isPlaying) {
-            long elapsed = System.currentTimeMillis() - lastTeamTimerUpdate;
-            currentTeam.subtractTime(elapsed);
-            updateTeamTimerDisplay(gameManager.getCurrentTeamIndex());
-        }
+        @Override
+        public void onWordGuessed(int team, long timeSpentMillis) {
+            // Replays are silent and draw the team timers every frame
+            if (replay != null) return;
 
-        stopTimers();
-        stopTickSound();
+            soundManager.playWordCorrect();
+            soundManager.vibrateShort();
 
-        // Apply penalty to current team
-        gameManager.onBombExploded();
+            // Only the team timer stops, the bomb keeps going!
+            stopTeamTimer();
 
-        // Check if current team is eliminated
-        currentTeam = gameManager.getCurrentTeam();
-        if (currentTeam != null && currentTeam.isEliminated()) {
-            // Store eliminated team info before moving to next
-            Team eliminatedTeam = currentTeam;
+            soundManager.playNextTurn();
+        }
 
-            // Move to next team only if current team is eliminated
-            gameManager.moveToNextTeam();
+        @Override
+        public void onTurnPassed(int team, int player) {
+            moveTeamHighlight();
+            updateCurrentPlayerHighlight();
 
-            // Check if game is over
-            if (gameManager.isGameOver()) {
-                // Only show winner - no elimination sound/dialog needed
-                new Handler(Looper.getMainLooper()).postDelayed(this::showWinner, 1500);
-                return;
-            }
+            showCurrentWord();
+            startTeamTimer();
+            startSkipCooldown();
 
-            // Game continues - show eliminated dialog with sound
-            // Play team eliminated sound
-            soundManager.playTeamEliminated();
-            // Update UI
-            updateTeamTimerHighlight();
-            // Show eliminated dialog
-            new Handler(Looper.getMainLooper()).postDelayed(() -> {
-                showTeamEliminatedDialog(eliminatedTeam);
-            }, 1500);
-            return;
+            updateNextTurnText();
+            saveSession();
         }
-        // If team is not eliminated, same player continues in new round
 
-        // Check if game is over
-        if (gameManager.isGameOver()) {
-            // Delay to show explosion effect
-            new Handler(Looper.getMainLooper()).postDelayed(this::showWinner, 1500);
-            return;
+        @Override
+        public void onWordSkipped(int team) {
+            showCurrentWord();
+            startSkipCooldown();
         }
 
-        // Update UI
-        updateTeamTimerHighlight();
+        @Override
+        public void onSkipReady() {
+            onSkipCooldownFinished();
+        }
 
-        // Delay before showing next turn (same player starts new round)
-        new Handler(Looper.getMainLooper()).postDelayed(() -> {
-            showCurrentPlayerTurn();
-        }, 1500);
-    }
+        @Override
+        public void onBombExploded(int team, long timeSpentMillis, long penaltyMillis) {
+            // Update penalty text before showing explosion
+            if (penaltyText != null) {
+                penaltyText.setText("-" + (penaltyMillis / 1000) + " ثانیه");
+            }
 
-    private void onTeamEliminated() {
-        Team currentTeam = gameManager.getCurrentTeam();
+            if (replay == null) {
+                soundManager.playExplosion();
+                soundManager.vibrate();
+            }
+            showExplosionEffect();
 
-        // Debug logging to track elimination
-        if (currentTeam != null) {
-            android.util.Log.d("GameActivity", "Team " + currentTeam.getId() + " eliminated. " +
-                "Remaining time: " + currentTeam.getRemainingTimeMillis() + "ms. " +
-                "Events count: " + currentTeam.getGameEvents().size());
+            stopTimers();
+            stopTickSound();
+            // Replays run straight on to the next round
+            bombJustExploded = replay == null;
         }
 
-        if (currentTeam != null) {
-            currentTeam.setEliminated(true);
+        @Override
+        public void onTeamEliminated(int team) {
+            eliminatedTeam = gameManager.getTeams().get(team);
+            android.util.Log.d("GameActivity", "Team " + eliminatedTeam.getId() + " eliminated. " +
+                    "Events count: " + eliminatedTeam.getEvents().size());
+
+            stopTimers();
+            stopTickSound();
         }
 
-        // Store eliminated team info before moving to next
-        Team eliminatedTeam = currentTeam;
+        @Override
+        public void onWaitingForTurn(int team, int player) {
+            updateTeamTimerHighlight();
 
-        stopTimers();
-        stopTickSound();
+            if (replay != null) {
+                eliminatedTeam = null;
+                showCurrentPlayerTurn();
+                return;
+            }
+            gameLogStore.flush();
+            saveSession();
+
+            if (eliminatedTeam != null) {
+                // Game continues - show eliminated dialog with sound
+                Team eliminated = eliminatedTeam;
+                eliminatedTeam = null;
+                soundManager.playTeamEliminated();
+                afterRoundEnd(() -> showTeamEliminatedDialog(eliminated));
+            } else {
+                // Same player starts a new round
+                afterRoundEnd(GameActivity.this::showCurrentPlayerTurn);
+            }
+        }
 
-        // Move to next team
-        gameManager.moveToNextTeam();
+        @Override
+        public void onGameOver(int winnerTeam) {
+            // Only show the winner - no elimination sound or dialog needed
+            eliminatedTeam = null;
+            stopTimers();
+            stopTickSound();
+            // A replay finishes on its own once the log runs out
+            if (replay != null) return;
 
-        // Check if game is over
-        if (gameManager.isGameOver()) {
-            // Only show winner - no elimination sound/dialog needed
-            showWinner();
-            return;
+            gameLogStore.finish();
+            clearSession();
+            afterRoundEnd(GameActivity.this::showWinner);
         }
+    }
 
-        // Game continues - show eliminated dialog with sound
-        // Play team eliminated sound
-        soundManager.playTeamEliminated();
-        // Update UI
-        updateTeamTimerHighlight();
-        // Show eliminated dialog
-        showTeamEliminatedDialog(eliminatedTeam);
+    /**
+     * Hide the player's name and show the word being explained
+     */
+    private void showRound() {
+        waitingForStart = false;
+        playerNameText.setVisibility(View.GONE);
+        tapToStartText.setVisibility(View.GONE);
+        wordText.setVisibility(View.VISIBLE);
+        showCurrentWord();
     }
 
     private void showExplosionEffect() {
@@ -832,15 +763,7 @@ public class GameActivity extends AppCompatActivity {
     }
 
     private void stopTimers() {
-        if (bombTimer != null) {
-            bombTimer.cancel();
-        }
-        if (teamTimer != null) {
-            teamTimer.cancel();
-        }
-        if (skipCooldownTimer != null) {
-            skipCooldownTimer.cancel();
-        }
+        gameClock.stopAll();
     }
 
     private void showWinner() {
@@ -850,13 +773,27 @@ public class GameActivity extends AppCompatActivity {
             intent.putExtra("winnerColor", winner.getColor());
             intent.putExtra("winnerPlayer1", winner.getPlayer(0) != null ?
                     winner.getPlayer(0).getName() : "");
-            intent.putExtra("winnerPlayer2", winner.getPlayer(1) != null ?
-                    winner.getPlayer(1).getName() : "");
+            intent.putExtra("winnerPlayer2", teammatesAfterFirst(winner));
         }
         startActivity(intent);
         finish();
     }
 
+    /**
+     * Names of every player but the first, for the second name line of teams
+     * that can have more than two players
+     */
+    private String teammatesAfterFirst(Team team) {
+        StringBuilder names = new StringBuilder();
+        for (int i = 1; i < team.getPlayers().size(); i++) {
+            if (names.length() > 0) {
+                names.append("، ");
+            }
+            names.append(team.getPlayer(i).getName());
+        }
+        return names.toString();
+    }
+
     private void showTeamEliminatedDialog(Team eliminatedTeam) {
         if (eliminatedTeam == null) return;
 
@@ -875,15 +812,25 @@ public class GameActivity extends AppCompatActivity {
         if (player1Name != null && eliminatedTeam.getPlayer(0) != null) {
             player1Name.setText(eliminatedTeam.getPlayer(0).getName());
         }
-        if (player2Name != null && eliminatedTeam.getPlayer(1) != null) {
-            player2Name.setText(eliminatedTeam.getPlayer(1).getName());
+        if (player2Name != null) {
+            player2Name.setText(teammatesAfterFirst(eliminatedTeam));
+        }
+
+        // Totals were kept up to date as the events came in
+        TeamEvents events = eliminatedTeam.getEvents();
+        TextView summaryText = dialogView.findViewById(R.id.gameEventsSummary);
+        if (summaryText != null) {
+            summaryText.setText(getString(R.string.game_events_summary,
+                    events.getWordsGuessed(), events.getBombsExploded(),
+                    events.getAverageGuessMillis() / 1000, events.getMaxGuessMillis() / 1000,
+                    events.getTotalPenaltyMillis() / 1000));
         }
 
         // Populate game events list
         LinearLayout eventsContainer = dialogView.findViewById(R.id.gameEventsContainer);
         if (eventsContainer != null) {
             eventsContainer.removeAllViews();
-            List<GameEvent> events = eliminatedTeam.getGameEvents();
+            WordRepository words = WordRepository.getInstance();
 
             if (events.isEmpty()) {
                 // No events recorded
@@ -896,7 +843,8 @@ public class GameActivity extends AppCompatActivity {
                 float density = getResources().getDisplayMetrics().density;
 
                 for (int i = 0; i < events.size(); i++) {
-                    GameEvent event = events.get(i);
+                    boolean exploded = events.getType(i) == TeamEvents.BOMB_EXPLODED;
+                    Word word = words.getWord(events.getWordId(i));
 
                     LinearLayout eventRow = new LinearLayout(this);
                     eventRow.setOrientation(LinearLayout.HORIZONTAL);
@@ -905,7 +853,7 @@ public class GameActivity extends AppCompatActivity {
 
                     // Event icon
                     TextView iconText = new TextView(this);
-                    if (event.getType() == GameEvent.EventType.WORD_GUESSED) {
+                    if (!exploded) {
                         iconText.setText("✅");
                     } else {
                         iconText.setText("💥");
@@ -915,7 +863,7 @@ public class GameActivity extends AppCompatActivity {
 
                     // Word text
                     TextView wordTextView = new TextView(this);
-                    wordTextView.setText(event.getWordText());
+                    wordTextView.setText(word != null ? word.getText() : "؟");
                     wordTextView.setTextColor(Color.parseColor("#1A1A2E"));
                     wordTextView.setTextSize(14);
                     LinearLayout.LayoutParams wordParams = new LinearLayout.LayoutParams(0, LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
@@ -923,7 +871,7 @@ public class GameActivity extends AppCompatActivity {
 
                     // Time spent
                     TextView timeText = new TextView(this);
-                    int timeSeconds = (int) (event.getTimeSpentMillis() / 1000);
+                    int timeSeconds = (int) (events.getTimeSpentMillis(i) / 1000);
                     timeText.setText(timeSeconds + " ث");
                     timeText.setTextColor(Color.parseColor("#AAAAAA"));
                     timeText.setTextSize(12);
@@ -934,9 +882,9 @@ public class GameActivity extends AppCompatActivity {
                     eventRow.addView(timeText);
 
                     // If bomb exploded, add penalty info
-                    if (event.getType() == GameEvent.EventType.BOMB_EXPLODED) {
+                    if (exploded) {
                         TextView penaltyTextView = new TextView(this);
-                        int penaltySec = (int) (event.getPenaltyMillis() / 1000);
+                        int penaltySec = (int) (events.getPenaltyMillis(i) / 1000);
                         penaltyTextView.setText(" (-" + penaltySec + "ث)");
                         penaltyTextView.setTextColor(Color.parseColor("#F44336"));
                         penaltyTextView.setTextSize(12);
@@ -962,21 +910,15 @@ public class GameActivity extends AppCompatActivity {
         eliminatedDialog.show();
     }
 
-    private String formatTime(long millis) {
-        if (millis < 0) millis = 0;
-        int seconds = (int) (millis / 1000);
-        int minutes = seconds / 60;
-        seconds = seconds % 60;
-        return String.format(Locale.getDefault(), "%d:%02d", minutes, seconds);
-    }
-
     private void showPauseDialog() {
-        // Only pause if playing
-        if (isPlaying) {
-            isPaused = true;
-            stopTimers();
-            stopTickSound();
+        // Only pause if playing; every countdown freezes where it is
+        if (isPlaying()) {
+            gameClock.pause();
+            engine.pause(gameClock.getElapsedMillis());
+            gameLogStore.flush();
+            soundManager.setIntenseMode(false);
         }
+        saveSession();
 
         View dialogView = getLayoutInflater().inflate(R.layout.dialog_pause, null);
 
@@ -995,6 +937,7 @@ public class GameActivity extends AppCompatActivity {
             stopTimers();
             stopTickSound();
             gameManager.reset();
+            clearSession();
             // Start background music and go to MainActivity
             soundManager.startBackgroundMusic();
             Intent intent = new Intent(this, MainActivity.class);
@@ -1007,54 +950,61 @@ public class GameActivity extends AppCompatActivity {
     }
 
     private void resumeGame() {
-        isPaused = false;
-        if (isPlaying) {
-            // Resume timers
-            startBombTimerFromRemaining();
-            startTeamTimer();
-            startTickSound();
-        }
+        gameClock.resume();
+        engine.resume(gameClock.getElapsedMillis());
     }
 
-    private void startBombTimerFromRemaining() {
-        bombTimer = new CountDownTimer(bombTimeRemaining, 100) {
-            @Override
-            public void onTick(long millisUntilFinished) {
-                bombTimeRemaining = millisUntilFinished;
-                updateBombTimerDisplay();
-
-                // Start intense mode in last 10 seconds
-                int seconds = (int) (millisUntilFinished / 1000);
-                if (seconds <= 10 && !soundManager.isIntenseMode()) {
-                    soundManager.setIntenseMode(true);
-                }
-            }
-
-            @Override
-            public void onFinish() {
-                onBombExploded();
-            }
-        }.start();
+    @Override
+    protected void onResume() {
+        super.onResume();
+        if (replay != null && !replayPaused) {
+            startReplayFrames();
+        }
     }
 
     @Override
     protected void onPause() {
         super.onPause();
-        // Finalize team time before stopping timers to prevent time drift
-        Team currentTeam = gameManager.getCurrentTeam();
-        if (currentTeam != null && isPlaying) {
-            long elapsed = System.currentTimeMillis() - lastTeamTimerUpdate;
-            currentTeam.subtractTime(elapsed);
-            lastTeamTimerUpdate = System.currentTimeMillis();
+        if (replay != null) {
+            replayHandler.removeCallbacks(replayFrame);
+            return;
+        }
+        // Freeze the round while in the background; the pause dialog resumes it
+        boolean pauseShowing = pauseDialog != null && pauseDialog.isShowing();
+        if (isPlaying() && !isFinishing() && !gameClock.isPaused() && !pauseShowing) {
+            showPauseDialog();
         }
-        stopTimers();
-        stopTickSound();
     }
 
     @Override
     protected void onDestroy() {
         super.onDestroy();
+        replayHandler.removeCallbacksAndMessages(null);
+        if (gameLogStore != null) {
+            gameLogStore.flush();
+        }
         stopTimers();
         stopTickSound();
     }
+
+    /**
+     * Feeds HUD text to a TextView without building Strings
+     */
+    private static final class TextViewTarget implements HudRenderer.TextTarget {
+        private final TextView view;
+
+        TextViewTarget(TextView view) {
+            this.view = view;
+        }
+
+        @Override
+        public void setText(char[] text, int length) {
+            view.setText(text, 0, length);
+        }
+
+        @Override
+        public void setTextColor(int color) {
+            view.setTextColor(color);
+        }
+    }
 }
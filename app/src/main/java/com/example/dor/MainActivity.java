@@ -4,11 +4,13 @@ import android.os.Bundle;
 
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
 
 import com.example.dor.data.WordRepository;
 import com.example.dor.fragments.AddWordsFragment;
 import com.example.dor.fragments.PlayFragment;
 import com.example.dor.fragments.SettingsFragment;
+import com.example.dor.utils.AppExecutors;
 import com.example.dor.utils.GameManager;
 import com.example.dor.utils.SoundManager;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
@@ -27,13 +29,12 @@ public class MainActivity extends AppCompatActivity {
         // Initialize managers
         gameManager = GameManager.getInstance();
         soundManager = SoundManager.getInstance();
-        soundManager.init(this);
 
-        // Load word categories
-        WordRepository.getInstance().loadCategories(this);
-
-        // Start background music
-        soundManager.startBackgroundMusic();
+        // Load word categories and sounds in the background, word bank first
+        WordRepository.getInstance().loadCategoriesAsync(this, AppExecutors.io())
+                .thenRunAsync(this::onWordBankReady, AppExecutors.mainThread());
+        soundManager.initAsync(this, AppExecutors.io())
+                .thenRunAsync(this::onSoundsReady, AppExecutors.mainThread());
 
         // Setup bottom navigation
         bottomNavigation = findViewById(R.id.bottomNavigation);
@@ -64,6 +65,19 @@ public class MainActivity extends AppCompatActivity {
         }
     }
 
+    private void onWordBankReady() {
+        if (!isDestroyed()) {
+            reportFullyDrawn();
+        }
+    }
+
+    private void onSoundsReady() {
+        // Start background music if we are still in the foreground
+        if (getLifecycle().getCurrentState().isAtLeast(Lifecycle.State.RESUMED)) {
+            soundManager.startBackgroundMusic();
+        }
+    }
+
     @Override
     protected void onResume() {
         super.onResume();
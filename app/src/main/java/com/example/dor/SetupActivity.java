@@ -19,32 +19,28 @@ import java.util.List;
 
 public class SetupActivity extends AppCompatActivity {
 
+    public static final String EXTRA_PLAYER_COUNT = "playerCount";
+    public static final String EXTRA_PLAYERS_PER_TEAM = "playersPerTeam";
+
     private int playerCount;
+    private int playersPerTeam;
     private CircularPlayerLayout circularPlayerLayout;
     private List<EditText> playerInputs;
     private GameManager gameManager;
 
-    // Team colors - Dark & Visible on white background
-    private static final String[] TEAM_COLORS = {
-            "#B71C1C", // Deep Red
-            "#0D47A1", // Deep Blue
-            "#1B5E20", // Deep Green
-            "#E65100", // Deep Orange
-            "#4A148C"  // Deep Purple
-    };
-
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_setup);
 
-        playerCount = getIntent().getIntExtra("playerCount", 4);
+        playerCount = getIntent().getIntExtra(EXTRA_PLAYER_COUNT, 4);
+        playersPerTeam = getIntent().getIntExtra(EXTRA_PLAYERS_PER_TEAM, 2);
         circularPlayerLayout = findViewById(R.id.circularPlayerLayout);
         playerInputs = new ArrayList<>();
         gameManager = GameManager.getInstance();
 
         // Initialize game with default mode (will be set later)
-        gameManager.initializeGame(playerCount, GameMode.QUICK);
+        gameManager.initializeGame(playerCount, playersPerTeam, GameMode.QUICK);
 
         // Add player input cards
         setupPlayerInputs();
@@ -57,7 +53,7 @@ public class SetupActivity extends AppCompatActivity {
         // Just add player input cards for each player
 
         float density = getResources().getDisplayMetrics().density;
-        int teamCount = playerCount / 2;
+        int teamCount = playerCount / playersPerTeam;
 
         // Card dimensions based on player count
         int cardWidth, cardHeight;
@@ -67,9 +63,13 @@ public class SetupActivity extends AppCompatActivity {
         } else if (playerCount <= 6) {
             cardWidth = (int) (85 * density);
             cardHeight = (int) (44 * density);
-        } else {
+        } else if (playerCount <= 10) {
             cardWidth = (int) (75 * density);
             cardHeight = (int) (40 * density);
+        } else {
+            // Large parties: the circle shrinks the cards further to fit its rings
+            cardWidth = (int) (64 * density);
+            cardHeight = (int) (34 * density);
         }
 
         // Add player cards
@@ -92,7 +92,7 @@ public class SetupActivity extends AppCompatActivity {
         editText.setHint(getString(R.string.player_hint) + " " + (playerIndex + 1));
         editText.setHintTextColor(Color.parseColor("#80FFFFFF"));
         editText.setTextColor(Color.WHITE);
-        editText.setTextSize(11);
+        editText.setTextSize(playerCount <= 10 ? 11 : 9);
         editText.setGravity(Gravity.CENTER);
         editText.setBackground(getDrawable(R.drawable.player_card_background));
         editText.setPadding(8, 8, 8, 8);
@@ -100,7 +100,7 @@ public class SetupActivity extends AppCompatActivity {
         editText.setSingleLine(true);
 
         // Set background color based on team
-        editText.getBackground().setTint(Color.parseColor(TEAM_COLORS[teamIndex]));
+        editText.getBackground().setTint(Color.parseColor(gameManager.getTeams().get(teamIndex).getColor()));
 
         return editText;
     }
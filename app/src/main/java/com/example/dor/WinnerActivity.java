@@ -3,6 +3,7 @@ package com.example.dor;
 import android.content.Intent;
 import android.graphics.Color;
 import android.os.Bundle;
+import android.view.View;
 import android.widget.TextView;
 
 import androidx.appcompat.app.AppCompatActivity;
@@ -53,6 +54,17 @@ public class WinnerActivity extends AppCompatActivity {
             finish();
         });
 
+        // Watch the game again; the replay comes back here when it ends
+        View replayButton = findViewById(R.id.replayButton);
+        if (GameManager.getInstance().getGameLog() == null) {
+            replayButton.setVisibility(View.GONE);
+        }
+        replayButton.setOnClickListener(v -> {
+            Intent intent = new Intent(this, GameActivity.class);
+            intent.putExtra(GameActivity.EXTRA_REPLAY, true);
+            startActivity(intent);
+        });
+
         // Main Menu button
         findViewById(R.id.mainMenuButton).setOnClickListener(v -> {
             GameManager.getInstance().reset();
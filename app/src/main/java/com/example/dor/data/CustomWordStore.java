@@ -0,0 +1,315 @@
+package com.example.dor.data;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import com.example.dor.models.CustomWord;
+import com.example.dor.utils.AppExecutors;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+
+/**
+ * Persists the user's custom words, oldest first, in an append-only journal.
+ *
+ * Every add or delete appends one small record, so an edit costs the same no
+ * matter how many words are saved. Deletes are tombstone records; once most
+ * records are dead the live words are rewritten to a temporary file that
+ * atomically replaces the journal.
+ *
+ * Each record is its payload length, the payload and a CRC32 of the payload.
+ * Loading stops at the first torn or corrupt record and cuts the file there,
+ * so a crash mid-write loses at most that one edit.
+ *
+ * Appends and compactions run in order on a single writer executor. The
+ * in-memory state belongs to the caller's thread.
+ */
+public class CustomWordStore {
+
+    static final String FILE_NAME = "custom_words.journal";
+
+    private static final int MAGIC = 0x44435754; // "DCWT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_PAYLOAD = 64 * 1024;
+
+    private static final byte TYPE_ADD = 1;
+    private static final byte TYPE_REMOVE = 2;
+
+    // Compact once the journal holds this many records and fewer than half are live
+    private static final int COMPACT_MIN_RECORDS = 64;
+
+    // Pre-journal storage, migrated once
+    private static final String LEGACY_PREFS_NAME = "custom_words_prefs";
+    private static final String LEGACY_KEY_WORDS = "custom_words";
+
+    private final File file;
+    private final File tempFile;
+    private final SharedPreferences legacyPrefs;
+    private final Executor writer;
+
+    private final Map<Long, CustomWord> live = new LinkedHashMap<>();
+    private int records;
+
+    // Writer executor only
+    private OutputStream out;
+
+    public CustomWordStore(Context context) {
+        this(new File(context.getFilesDir(), FILE_NAME),
+                context.getSharedPreferences(LEGACY_PREFS_NAME, Context.MODE_PRIVATE),
+                AppExecutors.io());
+    }
+
+    CustomWordStore(File file, SharedPreferences legacyPrefs, Executor writer) {
+        this.file = file;
+        this.tempFile = new File(file.getPath() + ".tmp");
+        this.legacyPrefs = legacyPrefs;
+        this.writer = writer;
+    }
+
+    /**
+     * Read the saved words, repairing or migrating storage as needed.
+     * Does disk I/O, so call it off the main thread.
+     */
+    public List<CustomWord> load() {
+        live.clear();
+        records = 0;
+        // Left over from a compaction that never finished; the journal is intact
+        tempFile.delete();
+
+        try {
+            if (file.exists()) {
+                long validLength = replay();
+                if (validLength < file.length()) {
+                    repair(validLength);
+                }
+            } else {
+                createJournal();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return new ArrayList<>(live.values());
+    }
+
+    public void add(CustomWord word) {
+        live.put(word.getId(), word);
+        append(encode(TYPE_ADD, word.getId(), word));
+    }
+
+    public void remove(CustomWord word) {
+        if (live.remove(word.getId()) != null) {
+            append(encode(TYPE_REMOVE, word.getId(), null));
+        }
+    }
+
+    /**
+     * Number of records in the journal, live or dead
+     */
+    int getRecordCount() {
+        return records;
+    }
+
+    private void append(byte[] record) {
+        records++;
+        writer.execute(() -> {
+            try {
+                if (out == null) {
+                    out = new FileOutputStream(file, true);
+                }
+                out.write(record);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+
+        if (records >= COMPACT_MIN_RECORDS && records > live.size() * 2) {
+            List<CustomWord> snapshot = new ArrayList<>(live.values());
+            records = snapshot.size();
+            writer.execute(() -> {
+                try {
+                    closeOutput();
+                    rewrite(snapshot);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            });
+        }
+    }
+
+    /**
+     * Apply every intact record.
+     *
+     * @return the file length up to the end of the last intact record
+     */
+    private long replay() throws IOException {
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return 0;
+            }
+            validLength = HEADER_SIZE;
+
+            CRC32 crc = new CRC32();
+            byte[] payload = new byte[256];
+            while (true) {
+                int length = in.readInt();
+                if (length <= 0 || length > MAX_PAYLOAD) {
+                    return validLength;
+                }
+                if (payload.length < length) {
+                    payload = new byte[length];
+                }
+                in.readFully(payload, 0, length);
+                int checksum = in.readInt();
+                crc.reset();
+                crc.update(payload, 0, length);
+                if (checksum != (int) crc.getValue()) {
+                    return validLength;
+                }
+                apply(payload, length);
+                records++;
+                validLength += 4 + length + 4;
+            }
+        } catch (EOFException e) {
+            // End of the journal, or a torn final record
+            return validLength;
+        }
+    }
+
+    private void apply(byte[] payload, int length) throws IOException {
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload, 0, length));
+        byte type = record.readByte();
+        long id = record.readLong();
+        if (type == TYPE_ADD) {
+            live.put(id, new CustomWord(id, record.readUTF(), record.readUTF(), record.readUTF()));
+        } else if (type == TYPE_REMOVE) {
+            live.remove(id);
+        }
+    }
+
+    private void repair(long validLength) throws IOException {
+        if (validLength < HEADER_SIZE) {
+            // Not a journal - replace it with an empty one
+            rewrite(new ArrayList<>(live.values()));
+            return;
+        }
+        try (RandomAccessFile journal = new RandomAccessFile(file, "rw")) {
+            journal.setLength(validLength);
+        }
+    }
+
+    /**
+     * Start a new journal, moving over any words that older versions saved
+     * as a JSON list in SharedPreferences, newest first
+     */
+    private void createJournal() throws IOException {
+        boolean hasLegacy = legacyPrefs != null && legacyPrefs.contains(LEGACY_KEY_WORDS);
+        if (hasLegacy) {
+            List<CustomWord> legacy = null;
+            try {
+                Type type = new TypeToken<List<CustomWord>>() {}.getType();
+                legacy = new Gson().fromJson(legacyPrefs.getString(LEGACY_KEY_WORDS, "[]"), type);
+            } catch (JsonParseException e) {
+                e.printStackTrace();
+            }
+
+            long id = 1;
+            if (legacy != null) {
+                for (int i = legacy.size() - 1; i >= 0; i--) {
+                    CustomWord word = legacy.get(i);
+                    if (word != null && word.getWord() != null) {
+                        word.setId(id++);
+                        live.put(word.getId(), word);
+                    }
+                }
+            }
+        }
+
+        rewrite(new ArrayList<>(live.values()));
+        records = live.size();
+        if (hasLegacy) {
+            // Only dropped once the journal is safely on disk
+            legacyPrefs.edit().remove(LEGACY_KEY_WORDS).commit();
+        }
+    }
+
+    /**
+     * Write the given words to a fresh journal and swap it in atomically
+     */
+    private void rewrite(List<CustomWord> words) throws IOException {
+        try (FileOutputStream fileOut = new FileOutputStream(tempFile)) {
+            BufferedOutputStream buffered = new BufferedOutputStream(fileOut);
+            DataOutputStream data = new DataOutputStream(buffered);
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            for (CustomWord word : words) {
+                data.write(encode(TYPE_ADD, word.getId(), word));
+            }
+            data.flush();
+            fileOut.getFD().sync();
+        }
+        if (!tempFile.renameTo(file)) {
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    private void closeOutput() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    private static byte[] encode(byte type, long id, CustomWord word) {
+        try {
+            ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(64);
+            DataOutputStream payload = new DataOutputStream(payloadBytes);
+            payload.writeByte(type);
+            payload.writeLong(id);
+            if (word != null) {
+                payload.writeUTF(word.getWord());
+                payload.writeUTF(nonNull(word.getCategoryId()));
+                payload.writeUTF(nonNull(word.getCategoryName()));
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(payloadBytes.toByteArray());
+
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(payloadBytes.size() + 8);
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            record.writeInt(payloadBytes.size());
+            payloadBytes.writeTo(record);
+            record.writeInt((int) crc.getValue());
+            return recordBytes.toByteArray();
+        } catch (IOException e) {
+            // Byte array streams do not throw
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.dor.data;
+
+import com.example.dor.utils.SessionRandom;
+
+/**
+ * Draws word ids according to per-difficulty weights.
+ *
+ * Word ids are split into one {@link WordDeck} per difficulty level. A draw
+ * first picks a level from a Walker/Vose alias table and then draws from that
+ * level's deck, so every draw is O(1) no matter how large the bank is.
+ *
+ * Weights are per word: a level is chosen with probability proportional to
+ * weight x number of words at that level, so with equal weights every word is
+ * equally likely. Everything is driven by the supplied {@link SessionRandom},
+ * so the sequence is reproducible from the session seed.
+ */
+public class DifficultySampler {
+
+    /** Difficulty levels: 1 = easy, 2 = medium, 3 = hard */
+    public static final int LEVELS = 3;
+
+    private static final double[] EQUAL_WEIGHTS = {1, 1, 1};
+
+    private final SessionRandom random;
+    private final WordDeck[] decks = new WordDeck[LEVELS];
+    private final double[] weights = EQUAL_WEIGHTS.clone();
+
+    // Alias table over levels
+    private final double[] probability = new double[LEVELS];
+    private final int[] alias = new int[LEVELS];
+    private final double[] scaled = new double[LEVELS];
+    private final int[] small = new int[LEVELS];
+    private final int[] large = new int[LEVELS];
+    private boolean empty = true;
+
+    public DifficultySampler(SessionRandom random) {
+        this.random = random;
+        for (int level = 0; level < LEVELS; level++) {
+            decks[level] = new WordDeck(random);
+        }
+    }
+
+    /**
+     * Map a word difficulty (1-3) to a level index, clamping unknown values
+     */
+    public static int levelOf(int difficulty) {
+        return Math.max(1, Math.min(LEVELS, difficulty)) - 1;
+    }
+
+    /**
+     * Start drawing from ids grouped by level, as returned by
+     * {@link WordIndex#selectWordIds}. The arrays are only read.
+     */
+    public void reset(int[][] idsByLevel) {
+        for (int level = 0; level < LEVELS; level++) {
+            decks[level].reset(idsByLevel[level]);
+        }
+        rebuildTable();
+    }
+
+    /**
+     * Set the relative per-word weight of each level, easy first.
+     * Passing null restores equal weights.
+     */
+    public void setWeights(double[] levelWeights) {
+        double[] source = levelWeights != null ? levelWeights : EQUAL_WEIGHTS;
+        for (int level = 0; level < LEVELS; level++) {
+            weights[level] = level < source.length ? Math.max(0, source[level]) : 0;
+        }
+        rebuildTable();
+    }
+
+    /**
+     * @return the next word id, or -1 if there are no words
+     */
+    public int draw() {
+        if (empty) {
+            return -1;
+        }
+        int level = random.nextInt(LEVELS);
+        if (random.nextDouble() >= probability[level]) {
+            level = alias[level];
+        }
+        return decks[level].draw();
+    }
+
+    /**
+     * Words left before every level's current cycle ends
+     */
+    public int remaining() {
+        int remaining = 0;
+        for (WordDeck deck : decks) {
+            remaining += deck.remaining();
+        }
+        return remaining;
+    }
+
+    public int size() {
+        int size = 0;
+        for (WordDeck deck : decks) {
+            size += deck.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (WordDeck deck : decks) {
+            deck.clear();
+        }
+        empty = true;
+    }
+
+    private void rebuildTable() {
+        double total = 0;
+        for (int level = 0; level < LEVELS; level++) {
+            scaled[level] = weights[level] * decks[level].size();
+            total += scaled[level];
+        }
+        if (total <= 0) {
+            // Weights exclude every level that has words - fall back to uniform per word
+            for (int level = 0; level < LEVELS; level++) {
+                scaled[level] = decks[level].size();
+                total += scaled[level];
+            }
+        }
+
+        empty = total <= 0;
+        if (empty) {
+            return;
+        }
+
+        // Vose's alias method
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int level = 0; level < LEVELS; level++) {
+            scaled[level] = scaled[level] * LEVELS / total;
+            if (scaled[level] < 1) {
+                small[smallCount++] = level;
+            } else {
+                large[largeCount++] = level;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        while (largeCount > 0) {
+            int level = large[--largeCount];
+            probability[level] = 1;
+            alias[level] = level;
+        }
+        while (smallCount > 0) {
+            // Only reachable through rounding error
+            int level = small[--smallCount];
+            probability[level] = 1;
+            alias[level] = level;
+        }
+    }
+}
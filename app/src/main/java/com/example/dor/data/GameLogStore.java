@@ -0,0 +1,132 @@
+package com.example.dor.data;
+
+import android.content.Context;
+
+import com.example.dor.engine.GameLog;
+import com.example.dor.utils.AppExecutors;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * Keeps the log of the last game on disk, for replaying it.
+ *
+ * The caller only copies the log's new bytes; opening, appending and closing
+ * the file run in order on a single writer executor, so the game thread
+ * never waits on the disk. Starting a new game replaces the file.
+ *
+ * Word ids in the log refer to the word bank the game was played with.
+ */
+public class GameLogStore {
+
+    static final String FILE_NAME = "last_game.log";
+
+    private final File file;
+    private final Executor writer;
+
+    // Caller's thread
+    private GameLog log;
+
+    // Writer executor only
+    private OutputStream out;
+
+    public GameLogStore(Context context) {
+        this(new File(context.getFilesDir(), FILE_NAME), AppExecutors.io());
+    }
+
+    GameLogStore(File file, Executor writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    /**
+     * Start saving a game's log in place of the last one. A log carried over
+     * from before a restart is written out whole.
+     */
+    public void start(GameLog log) {
+        this.log = log;
+        log.takePending();
+        byte[] written = log.toByteArray();
+        writer.execute(() -> {
+            try {
+                closeOutput();
+                out = new FileOutputStream(file, false);
+                out.write(written);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Hand everything logged since the last flush to the writer
+     */
+    public void flush() {
+        if (log == null) {
+            return;
+        }
+        byte[] pending = log.takePending();
+        if (pending.length == 0) {
+            return;
+        }
+        writer.execute(() -> {
+            try {
+                if (out != null) {
+                    out.write(pending);
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Flush and close the file; the log is complete
+     */
+    public void finish() {
+        flush();
+        log = null;
+        writer.execute(() -> {
+            try {
+                closeOutput();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Read the saved log. Does disk I/O, so call it off the main thread.
+     *
+     * @return the log's bytes, or null if no game was saved
+     */
+    public byte[] read() throws IOException {
+        if (!file.exists()) {
+            return null;
+        }
+        try (FileInputStream in = new FileInputStream(file)) {
+            byte[] data = new byte[(int) file.length()];
+            int length = 0;
+            while (length < data.length) {
+                int read = in.read(data, length, data.length - length);
+                if (read < 0) {
+                    break;
+                }
+                length += read;
+            }
+            return length == data.length ? data : Arrays.copyOf(data, length);
+        }
+    }
+
+    private void closeOutput() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.dor.data;
+
+import android.content.Context;
+
+import com.example.dor.utils.AppExecutors;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * Keeps a snapshot of the game in progress on disk, so it survives the
+ * process being killed while the app is in the background.
+ *
+ * Saving writes a temporary file and renames it over the last snapshot on a
+ * single writer executor: the game thread never waits on the disk, and a
+ * crash mid-write leaves the previous snapshot in place.
+ */
+public class GameSessionStore {
+
+    static final String FILE_NAME = "game_session.bin";
+
+    private final File file;
+    private final File tempFile;
+    private final Executor writer;
+
+    public GameSessionStore(Context context) {
+        this(new File(context.getFilesDir(), FILE_NAME), AppExecutors.io());
+    }
+
+    GameSessionStore(File file, Executor writer) {
+        this.file = file;
+        this.tempFile = new File(file.getPath() + ".tmp");
+        this.writer = writer;
+    }
+
+    /**
+     * Replace the saved snapshot
+     */
+    public void save(byte[] snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        writer.execute(() -> {
+            try (FileOutputStream out = new FileOutputStream(tempFile, false)) {
+                out.write(snapshot);
+                out.getFD().sync();
+            } catch (IOException e) {
+                e.printStackTrace();
+                return;
+            }
+            if (!tempFile.renameTo(file)) {
+                tempFile.delete();
+            }
+        });
+    }
+
+    /**
+     * Forget the saved game, once it is over or abandoned
+     */
+    public void clear() {
+        writer.execute(() -> {
+            file.delete();
+            tempFile.delete();
+        });
+    }
+
+    /**
+     * Read the saved snapshot. A snapshot is a few kilobytes, small enough to
+     * read on the main thread while the game screen is created.
+     *
+     * @return the snapshot, or null if there is none
+     */
+    public byte[] read() {
+        if (!file.exists()) {
+            return null;
+        }
+        try (FileInputStream in = new FileInputStream(file)) {
+            byte[] data = new byte[(int) file.length()];
+            int length = 0;
+            while (length < data.length) {
+                int read = in.read(data, length, data.length - length);
+                if (read < 0) {
+                    break;
+                }
+                length += read;
+            }
+            return length == data.length ? data : Arrays.copyOf(data, length);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
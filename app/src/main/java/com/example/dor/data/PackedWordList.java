@@ -0,0 +1,86 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Word;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A category's word list backed by a {@link WordPack}.
+ * Words are materialized on first access and cached. Words added at runtime
+ * (custom words) are kept after the packed range and are the only ones that
+ * can be replaced or removed.
+ */
+class PackedWordList extends AbstractList<Word> implements RandomAccess {
+
+    private final WordPack pack;
+    private final String categoryId;
+    private final int firstWord;
+    private final Word[] packed;
+    private final List<Word> added = new ArrayList<>();
+
+    PackedWordList(WordPack pack, String categoryId, int firstWord, int wordCount) {
+        this.pack = pack;
+        this.categoryId = categoryId;
+        this.firstWord = firstWord;
+        this.packed = new Word[wordCount];
+    }
+
+    @Override
+    public Word get(int index) {
+        if (index >= packed.length) {
+            return added.get(index - packed.length);
+        }
+        Word word = packed[index];
+        if (word == null) {
+            word = pack.getWord(firstWord + index, categoryId);
+            packed[index] = word;
+        }
+        return word;
+    }
+
+    /**
+     * Difficulty of a word without materializing it
+     */
+    int getDifficulty(int index) {
+        if (index >= packed.length) {
+            return added.get(index - packed.length).getDifficulty();
+        }
+        return pack.getWordDifficulty(firstWord + index);
+    }
+
+    @Override
+    public int size() {
+        return packed.length + added.size();
+    }
+
+    @Override
+    public void add(int index, Word word) {
+        if (index != size()) {
+            throw new UnsupportedOperationException("Packed words can only be appended");
+        }
+        added.add(word);
+        modCount++;
+    }
+
+    @Override
+    public Word set(int index, Word word) {
+        return added.set(addedIndex(index), word);
+    }
+
+    @Override
+    public Word remove(int index) {
+        Word removed = added.remove(addedIndex(index));
+        modCount++;
+        return removed;
+    }
+
+    private int addedIndex(int index) {
+        if (index < packed.length) {
+            throw new UnsupportedOperationException("Packed words are read-only");
+        }
+        return index - packed.length;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Word;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Remembers the words shown in recent games, across app restarts.
+ *
+ * Words are keyed by a stable 32-bit hash of their category and text, so
+ * keys survive word bank updates and do not depend on load order. The last
+ * {@link #DEFAULT_CAPACITY} keys are kept in a ring buffer, mirrored in a
+ * small open-addressing hash set for O(1) lookups. Memory and file size
+ * depend only on the capacity, never on the size of the bank.
+ */
+public class RecentWordsFilter {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int MAGIC = 0x44525743; // "DRWC"
+    private static final int VERSION = 1;
+    // 0 marks an empty hash slot, so it is never stored as a key
+    private static final int EMPTY = 0;
+    private static final int ZERO_KEY = 1;
+
+    private final int[] ring;
+    private int head;  // Next ring slot to write
+    private int count;
+
+    private final int[] table;
+    private final int tableShift;
+    private final int tableMask;
+
+    public RecentWordsFilter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RecentWordsFilter(int capacity) {
+        ring = new int[capacity];
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.max(1, capacity * 2 - 1));
+        table = new int[1 << bits];
+        tableShift = 32 - bits;
+        tableMask = table.length - 1;
+    }
+
+    /**
+     * Stable key for a word: FNV-1a over its category id and text. Never 0.
+     */
+    public static int keyOf(Word word) {
+        int hash = 0x811C9DC5;
+        hash = mix(hash, word.getCategory());
+        hash = (hash ^ 0x1F) * 0x01000193;
+        hash = mix(hash, word.getText());
+        return nonEmpty(hash);
+    }
+
+    public boolean contains(int key) {
+        key = nonEmpty(key);
+        int i = slot(key);
+        while (table[i] != 0) {
+            if (table[i] == key) {
+                return true;
+            }
+            i = (i + 1) & tableMask;
+        }
+        return false;
+    }
+
+    /**
+     * Record a key as seen, forgetting the oldest one if the ring is full.
+     * Keys that are already present are left where they are.
+     */
+    public void add(int key) {
+        key = nonEmpty(key);
+        if (ring.length == 0 || contains(key)) {
+            return;
+        }
+        if (count == ring.length) {
+            remove(ring[head]);
+        } else {
+            count++;
+        }
+        ring[head] = key;
+        head = (head + 1) % ring.length;
+        insert(key);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = 0;
+        }
+        head = 0;
+        count = 0;
+    }
+
+    /**
+     * @return the remembered keys, oldest first
+     */
+    public int[] snapshot() {
+        int[] keys = new int[count];
+        int start = (head - count + ring.length) % Math.max(1, ring.length);
+        for (int i = 0; i < count; i++) {
+            keys[i] = ring[(start + i) % ring.length];
+        }
+        return keys;
+    }
+
+    /**
+     * Replace the contents with keys read from a file written by {@link #save}.
+     * A missing or unreadable file leaves the filter empty.
+     */
+    public void load(File file) {
+        clear();
+        if (!file.isFile()) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return;
+            }
+            int stored = in.readInt();
+            int[] keys = new int[stored];
+            for (int i = 0; i < stored; i++) {
+                keys[i] = in.readInt();
+            }
+            // Keep the newest keys if the capacity shrank; a 0 can only come
+            // from a damaged file, as saved keys are never 0
+            for (int i = Math.max(0, stored - ring.length); i < stored; i++) {
+                if (keys[i] != EMPTY) {
+                    add(keys[i]);
+                }
+            }
+        } catch (IOException e) {
+            clear();
+        }
+    }
+
+    /**
+     * Write keys from {@link #snapshot} to a file, replacing it atomically.
+     * Safe to call from any thread.
+     */
+    public static void save(File file, int[] keys) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(keys.length);
+            for (int key : keys) {
+                out.writeInt(key);
+            }
+        }
+        if (!temp.renameTo(file)) {
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    private void insert(int key) {
+        int i = slot(key);
+        while (table[i] != 0) {
+            i = (i + 1) & tableMask;
+        }
+        table[i] = key;
+    }
+
+    private void remove(int key) {
+        int i = slot(key);
+        while (table[i] != key) {
+            if (table[i] == 0) {
+                return;
+            }
+            i = (i + 1) & tableMask;
+        }
+
+        // Backward-shift deletion keeps probe chains intact without tombstones
+        int j = i;
+        while (true) {
+            j = (j + 1) & tableMask;
+            if (table[j] == 0) {
+                break;
+            }
+            int home = slot(table[j]);
+            boolean between = i <= j ? (home > i && home <= j) : (home > i || home <= j);
+            if (!between) {
+                table[i] = table[j];
+                i = j;
+            }
+        }
+        table[i] = 0;
+    }
+
+    private static int nonEmpty(int key) {
+        return key != EMPTY ? key : ZERO_KEY;
+    }
+
+    private int slot(int key) {
+        return (key * 0x9E3779B9) >>> tableShift;
+    }
+
+    private static int mix(int hash, String value) {
+        if (value == null) {
+            return hash;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x01000193;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Category;
+import com.example.dor.models.Word;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for the word bank JSON.
+ * Reads categories and words token by token straight from the stream, so the
+ * file is never held in memory as a byte[] or String.
+ */
+public final class WordBankParser {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private WordBankParser() {
+    }
+
+    /**
+     * Parse a list of categories from the given stream. The stream is not closed.
+     */
+    public static List<Category> parse(InputStream in) throws IOException {
+        JsonReader reader = new JsonReader(new BufferedReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE));
+        List<Category> categories = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            categories.add(readCategory(reader));
+        }
+        reader.endArray();
+        return categories;
+    }
+
+    private static Category readCategory(JsonReader reader) throws IOException {
+        Category category = new Category();
+        List<Word> words = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    category.setId(nextStringOrNull(reader));
+                    break;
+                case "name":
+                    category.setName(nextStringOrNull(reader));
+                    break;
+                case "emoji":
+                    category.setEmoji(nextStringOrNull(reader));
+                    break;
+                case "words":
+                    readWords(reader, words);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        // Words may omit their category; they always belong to the enclosing one
+        for (Word word : words) {
+            if (word.getCategory() == null) {
+                word.setCategory(category.getId());
+            }
+        }
+        category.setWords(words);
+        return category;
+    }
+
+    private static void readWords(JsonReader reader, List<Word> out) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            Word word = readWord(reader);
+            if (word.getText() != null) {
+                out.add(word);
+            }
+        }
+        reader.endArray();
+    }
+
+    private static Word readWord(JsonReader reader) throws IOException {
+        Word word = new Word();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "text":
+                    word.setText(nextStringOrNull(reader));
+                    break;
+                case "category":
+                    word.setCategory(nextStringOrNull(reader));
+                    break;
+                case "difficulty":
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        word.setDifficulty(reader.nextInt());
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return word;
+    }
+
+    private static String nextStringOrNull(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.dor.data;
+
+import com.example.dor.utils.SessionRandom;
+
+import java.util.Arrays;
+
+/**
+ * Incremental draw engine over an array of word ids.
+ *
+ * Each draw performs a single Fisher-Yates step: pick a random id from the
+ * undrawn part of the deck and swap it into place. There is never a full
+ * reshuffle.
+ *
+ * The source array is never modified. Swaps go to a working copy whose
+ * entries are only valid when stamped with the current epoch. Restarting the
+ * same ids just bumps the epoch, which is O(1), and every game starts from the
+ * source order, so a given seed always yields the same sequence.
+ *
+ * When a cycle ends, the last few drawn ids sit at the tail of the deck.
+ * The first draws of the next cycle are taken only from outside that tail,
+ * so words from the end of one cycle never reappear at the start of the next.
+ */
+public class WordDeck {
+
+    public static final int DEFAULT_NO_REPEAT_WINDOW = 5;
+
+    private final int noRepeatWindow;
+    private final SessionRandom random;
+    private int[] ids = new int[0];
+    private int[] slots = new int[0];
+    private int[] stamps = new int[0];
+    private int epoch;
+    private int size;
+    private int cursor;
+    private int guard;
+
+    public WordDeck(SessionRandom random) {
+        this(random, DEFAULT_NO_REPEAT_WINDOW);
+    }
+
+    public WordDeck(SessionRandom random, int noRepeatWindow) {
+        this.random = random;
+        this.noRepeatWindow = noRepeatWindow;
+    }
+
+    /**
+     * Start drawing from the given ids in their original order.
+     * The array is read, never written.
+     */
+    public void reset(int[] ids) {
+        if (ids != this.ids || stamps.length < ids.length) {
+            this.ids = ids;
+            this.slots = new int[ids.length];
+            this.stamps = new int[ids.length];
+            this.epoch = 1;
+        } else if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+        this.size = ids.length;
+        this.cursor = 0;
+        this.guard = 0;
+    }
+
+    /**
+     * @return the next word id, or -1 if the deck is empty
+     */
+    public int draw() {
+        if (size == 0) {
+            return -1;
+        }
+
+        if (cursor == size) {
+            // New cycle: keep the previous cycle's tail out of the first draws
+            cursor = 0;
+            guard = Math.min(noRepeatWindow, (size - 1) / 2);
+        }
+
+        int limit = cursor < guard ? size - guard : size;
+        int pick = cursor + random.nextInt(limit - cursor);
+
+        int id = get(pick);
+        set(pick, get(cursor));
+        set(cursor, id);
+        cursor++;
+        return id;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of ids left before the current cycle ends
+     */
+    public int remaining() {
+        return size - cursor;
+    }
+
+    public void clear() {
+        reset(new int[0]);
+    }
+
+    private int get(int position) {
+        return stamps[position] == epoch ? slots[position] : ids[position];
+    }
+
+    private void set(int position, int id) {
+        slots[position] = id;
+        stamps[position] = epoch;
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Category;
+import com.example.dor.models.Word;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Word store indexed by category id.
+ *
+ * Every word gets a global int id. Each category maps to a primitive array of
+ * its word ids, so selecting words for a game costs O(selected words) and never
+ * scans the other categories. Words themselves stay in their category lists
+ * (lazy for packed categories) and are only resolved when asked for.
+ *
+ * A category's id array is kept parallel to its word list. Removing a word
+ * moves the category's last word into its place in both, which is O(1).
+ * Ids of removed words are never reused.
+ */
+public class WordIndex {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Map<String, Slot> slots = new HashMap<>();
+    private final List<Slot> ordinals = new ArrayList<>();
+
+    // Global word id -> owning category ordinal (-1 once removed), position in its list and difficulty level
+    private int[] wordCategory = new int[INITIAL_CAPACITY];
+    private int[] wordPosition = new int[INITIAL_CAPACITY];
+    private byte[] wordLevel = new byte[INITIAL_CAPACITY];
+    private int wordCount;
+
+    // Bumped whenever the set of words changes, so cached selections are rebuilt
+    private int version;
+
+    // Last prepared selection, reused when the same categories are picked again
+    private Set<String> preparedSelection;
+    private int preparedVersion = -1;
+    private int[][] preparedIds;
+
+    private static final class Slot {
+        final int ordinal;
+        final List<Word> words;
+        int[] ids;  // ids[i] is the id of words.get(i)
+        int size;
+
+        Slot(int ordinal, List<Word> words) {
+            this.ordinal = ordinal;
+            this.words = words;
+            this.ids = new int[Math.max(words.size(), 4)];
+        }
+    }
+
+    public WordIndex(List<Category> categories) {
+        for (Category category : categories) {
+            if (slots.containsKey(category.getId())) {
+                continue;
+            }
+            List<Word> words = category.getWords();
+            if (words == null) {
+                words = new ArrayList<>();
+                category.setWords(words);
+            }
+            Slot slot = new Slot(ordinals.size(), words);
+            slots.put(category.getId(), slot);
+            ordinals.add(slot);
+            PackedWordList packed = words instanceof PackedWordList ? (PackedWordList) words : null;
+            for (int i = 0; i < words.size(); i++) {
+                // Packed words report their difficulty without being materialized
+                int difficulty = packed != null ? packed.getDifficulty(i) : words.get(i).getDifficulty();
+                append(slot, i, difficulty);
+            }
+        }
+    }
+
+    /**
+     * Append a word to its category's list and index it.
+     *
+     * @return the new word's global id, or -1 if the category is unknown
+     */
+    public int addWord(Word word) {
+        Slot slot = slots.get(word.getCategory());
+        if (slot == null) {
+            return -1;
+        }
+        slot.words.add(word);
+        version++;
+        return append(slot, slot.size, word.getDifficulty());
+    }
+
+    /**
+     * Remove a word from its category's list and the index. The category's
+     * last word takes its place, so list order is not preserved.
+     *
+     * @return false if the id is unknown or already removed
+     */
+    public boolean removeWord(int wordId) {
+        if (!contains(wordId)) {
+            return false;
+        }
+        Slot slot = ordinals.get(wordCategory[wordId]);
+        int position = wordPosition[wordId];
+        int last = slot.size - 1;
+        if (position != last) {
+            int movedId = slot.ids[last];
+            slot.ids[position] = movedId;
+            slot.words.set(position, slot.words.get(last));
+            wordPosition[movedId] = position;
+        }
+        slot.words.remove(last);
+        slot.size--;
+        wordCategory[wordId] = -1;
+        version++;
+        return true;
+    }
+
+    /**
+     * Whether the id belongs to a word that has not been removed
+     */
+    public boolean contains(int wordId) {
+        return wordId >= 0 && wordId < wordCount && wordCategory[wordId] >= 0;
+    }
+
+    /**
+     * Ids of removed words must not be passed here
+     */
+    public Word getWord(int wordId) {
+        return ordinals.get(wordCategory[wordId]).words.get(wordPosition[wordId]);
+    }
+
+    /**
+     * Difficulty level of a word, 0 (easy) to {@link DifficultySampler#LEVELS} - 1 (hard)
+     */
+    public int getWordLevel(int wordId) {
+        return wordLevel[wordId];
+    }
+
+    /**
+     * Number of word ids assigned so far, including removed words
+     */
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public int getCategoryWordCount(String categoryId) {
+        Slot slot = slots.get(categoryId);
+        return slot != null ? slot.size : 0;
+    }
+
+    /**
+     * Collect the word ids of the selected categories, grouped by difficulty
+     * level. The returned arrays are shared with later calls for the same
+     * selection and must not be modified.
+     */
+    public int[][] selectWordIds(List<String> selectedCategoryIds) {
+        Set<String> selection = new HashSet<>(selectedCategoryIds);
+        if (preparedIds != null && preparedVersion == version && selection.equals(preparedSelection)) {
+            return preparedIds;
+        }
+
+        int[] levelCounts = new int[DifficultySampler.LEVELS];
+        for (String categoryId : selection) {
+            Slot slot = slots.get(categoryId);
+            if (slot != null) {
+                for (int i = 0; i < slot.size; i++) {
+                    levelCounts[wordLevel[slot.ids[i]]]++;
+                }
+            }
+        }
+
+        int[][] ids = new int[DifficultySampler.LEVELS][];
+        for (int level = 0; level < ids.length; level++) {
+            ids[level] = new int[levelCounts[level]];
+            levelCounts[level] = 0;
+        }
+        for (String categoryId : selection) {
+            Slot slot = slots.get(categoryId);
+            if (slot != null) {
+                for (int i = 0; i < slot.size; i++) {
+                    int wordId = slot.ids[i];
+                    int level = wordLevel[wordId];
+                    ids[level][levelCounts[level]++] = wordId;
+                }
+            }
+        }
+
+        preparedSelection = selection;
+        preparedVersion = version;
+        preparedIds = ids;
+        return ids;
+    }
+
+    private int append(Slot slot, int position, int difficulty) {
+        if (wordCount == wordCategory.length) {
+            wordCategory = Arrays.copyOf(wordCategory, wordCount * 2);
+            wordPosition = Arrays.copyOf(wordPosition, wordCount * 2);
+            wordLevel = Arrays.copyOf(wordLevel, wordCount * 2);
+        }
+        int wordId = wordCount++;
+        wordCategory[wordId] = slot.ordinal;
+        wordPosition[wordId] = position;
+        wordLevel[wordId] = (byte) DifficultySampler.levelOf(difficulty);
+
+        if (slot.size == slot.ids.length) {
+            slot.ids = Arrays.copyOf(slot.ids, slot.size * 2);
+        }
+        slot.ids[slot.size++] = wordId;
+        return wordId;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Category;
+import com.example.dor.models.Word;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view over a precompiled binary word pack.
+ *
+ * The pack is generated from assets/words.json at build time by the
+ * generateWordPack Gradle task. Layout (big-endian):
+ * <pre>
+ *   int  magic, int version, int categoryCount, int wordCount, int stringCount
+ *   categoryCount x { int idString, int nameString, int emojiString, int firstWord, int wordCount }
+ *   wordCount x int textString
+ *   wordCount x byte difficulty, zero-padded to a multiple of 4
+ *   (stringCount + 1) x int string offsets into the blob
+ *   UTF-8 string blob
+ * </pre>
+ * Nothing is decoded up front; strings and {@link Word} objects are built
+ * only when asked for.
+ */
+public final class WordPack {
+
+    public static final String ASSET_NAME = "words.pack";
+    public static final int MAGIC = 0x444F5257; // "DORW"
+    public static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 5 * 4;
+    private static final int CATEGORY_ENTRY_SIZE = 5 * 4;
+
+    private final ByteBuffer buffer;
+    private final int categoryCount;
+    private final int wordCount;
+    private final int stringCount;
+    private final int categoryTableOffset;
+    private final int wordTableOffset;
+    private final int difficultyOffset;
+    private final int stringOffsetsOffset;
+    private final int stringBlobOffset;
+
+    private WordPack(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a word pack");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported word pack version " + version);
+        }
+
+        categoryCount = buffer.getInt(8);
+        wordCount = buffer.getInt(12);
+        stringCount = buffer.getInt(16);
+
+        categoryTableOffset = HEADER_SIZE;
+        wordTableOffset = categoryTableOffset + categoryCount * CATEGORY_ENTRY_SIZE;
+        difficultyOffset = wordTableOffset + wordCount * 4;
+        stringOffsetsOffset = align4(difficultyOffset + wordCount);
+        stringBlobOffset = stringOffsetsOffset + (stringCount + 1) * 4;
+
+        if (stringBlobOffset > buffer.capacity()
+                || stringBlobOffset + buffer.getInt(stringOffsetsOffset + stringCount * 4) > buffer.capacity()) {
+            throw new IOException("Truncated word pack");
+        }
+    }
+
+    /**
+     * Memory-map a region of a file as a word pack. The mapping stays valid
+     * after the channel is closed.
+     */
+    public static WordPack map(FileChannel channel, long offset, long length) throws IOException {
+        return new WordPack(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+    }
+
+    public static WordPack wrap(ByteBuffer buffer) throws IOException {
+        return new WordPack(buffer);
+    }
+
+    public int getCategoryCount() {
+        return categoryCount;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public String getCategoryId(int category) {
+        return string(categoryField(category, 0));
+    }
+
+    public String getCategoryName(int category) {
+        return string(categoryField(category, 1));
+    }
+
+    public String getCategoryEmoji(int category) {
+        return string(categoryField(category, 2));
+    }
+
+    public int getCategoryFirstWord(int category) {
+        return categoryField(category, 3);
+    }
+
+    public int getCategoryWordCount(int category) {
+        return categoryField(category, 4);
+    }
+
+    public String getWordText(int word) {
+        return string(buffer.getInt(wordTableOffset + word * 4));
+    }
+
+    public int getWordDifficulty(int word) {
+        return buffer.get(difficultyOffset + word);
+    }
+
+    /**
+     * Build a new {@link Word} for the given global word index.
+     */
+    public Word getWord(int word, String categoryId) {
+        return new Word(getWordText(word), categoryId, getWordDifficulty(word));
+    }
+
+    /**
+     * Build the category list. Each category's word list is a lazy view over
+     * the pack, so no {@link Word} is created until it is read.
+     */
+    public List<Category> toCategories() {
+        List<Category> categories = new ArrayList<>(categoryCount);
+        for (int c = 0; c < categoryCount; c++) {
+            Category category = new Category(getCategoryId(c), getCategoryName(c), getCategoryEmoji(c));
+            category.setWords(new PackedWordList(this, category.getId(),
+                    getCategoryFirstWord(c), getCategoryWordCount(c)));
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    private int categoryField(int category, int field) {
+        return buffer.getInt(categoryTableOffset + category * CATEGORY_ENTRY_SIZE + field * 4);
+    }
+
+    private String string(int index) {
+        int start = buffer.getInt(stringOffsetsOffset + index * 4);
+        int end = buffer.getInt(stringOffsetsOffset + (index + 1) * 4);
+        byte[] bytes = new byte[end - start];
+        int base = stringBlobOffset + start;
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(base + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int align4(int offset) {
+        return (offset + 3) & ~3;
+    }
+}
@@ -1,35 +1,74 @@
 package com.example.dor.data;
 
 import android.content.Context;
+import android.content.res.AssetFileDescriptor;
 
 import com.example.dor.models.Category;
+import com.example.dor.models.CustomWord;
 import com.example.dor.models.Word;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import com.example.dor.utils.AppExecutors;
+import com.example.dor.utils.SessionRandom;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Repository for managing words and categories
  */
 public class WordRepository {
+    private static final String RECENT_WORDS_FILE = "recent_words.bin";
+    // Redraws allowed per word before a recently seen word is accepted anyway
+    private static final int MAX_RECENT_SKIPS = 8;
+
     private static WordRepository instance;
-    private List<Category> categories;
-    private List<Word> availableWords;
-    private List<Word> usedWords;
-    private int currentWordIndex;
+    private volatile List<Category> categories;
+    private final CompletableFuture<List<Category>> ready;
+    private final AtomicBoolean loadStarted;
+
+    // Words shown in recent games, kept out of new games while possible
+    private final RecentWordsFilter recentWords;
+    private volatile File recentWordsFile;
+    private boolean recentWordsExhausted;
+
+    // User-added words, oldest first, and the index id of each (by custom word id)
+    private final List<CustomWord> customWords;
+    private final Map<Long, Integer> customWordIds;
+    private volatile CustomWordStore customWordStore;
+    private long nextCustomWordId = 1;
+
+    // Category-indexed word ids; game words are drawn lazily by difficulty weight
+    private volatile WordIndex wordIndex;
+    private final SessionRandom sessionRandom;
+    private final DifficultySampler wordSampler;
+    private int lastWordId = -1;
+
+    // The game's selection and how many draws it has made, enough to rebuild
+    // its decks from the session seed
+    private List<String> selectedCategoryIds = Collections.emptyList();
+    private int wordDraws;
 
     private WordRepository() {
         categories = new ArrayList<>();
-        availableWords = new ArrayList<>();
-        usedWords = new ArrayList<>();
-        currentWordIndex = 0;
+        recentWords = new RecentWordsFilter();
+        customWords = new ArrayList<>();
+        customWordIds = new HashMap<>();
+        wordIndex = new WordIndex(categories);
+        sessionRandom = new SessionRandom(SessionRandom.newSeed());
+        wordSampler = new DifficultySampler(sessionRandom);
+        ready = new CompletableFuture<>();
+        loadStarted = new AtomicBoolean(false);
     }
 
     public static synchronized WordRepository getInstance() {
@@ -39,21 +78,129 @@ public class WordRepository {
         return instance;
     }
 
+    /**
+     * Load the word bank on the given background executor. Only the first call
+     * starts a load; every call returns the same readiness future. The future
+     * always completes: a load that fails falls back to the built-in words.
+     */
+    public CompletableFuture<List<Category>> loadCategoriesAsync(Context context, Executor executor) {
+        if (loadStarted.compareAndSet(false, true)) {
+            Context appContext = context.getApplicationContext();
+            executor.execute(() -> {
+                try {
+                    loadCategories(appContext);
+                } catch (RuntimeException e) {
+                    // A broken pack or custom word file must not leave every screen waiting
+                    e.printStackTrace();
+                    setCategories(getDefaultCategories());
+                }
+                ready.complete(categories);
+            });
+        }
+        return ready;
+    }
+
+    /**
+     * Completes with the loaded categories once the word bank is ready
+     */
+    public CompletableFuture<List<Category>> getReadyFuture() {
+        return ready;
+    }
+
+    public boolean isReady() {
+        return ready.isDone();
+    }
+
+    /**
+     * Run a callback on the main thread once the word bank is ready.
+     * Runs immediately (still posted) if it is already loaded.
+     */
+    public void whenReady(Consumer<List<Category>> callback) {
+        ready.thenAcceptAsync(callback, AppExecutors.mainThread());
+    }
+
     public void loadCategories(Context context) {
+        File file = new File(context.getFilesDir(), RECENT_WORDS_FILE);
+        recentWords.load(file);
+        recentWordsFile = file;
+
+        if (!loadWordPack(context)) {
+            loadWordBank(context);
+        }
+
+        CustomWordStore store = new CustomWordStore(context);
+        mergeCustomWords(store.load());
+        customWordStore = store;
+    }
+
+    private boolean loadWordPack(Context context) {
         try {
-            InputStream is = context.getAssets().open("words.json");
-            int size = is.available();
-            byte[] buffer = new byte[size];
-            is.read(buffer);
-            is.close();
-
-            String json = new String(buffer, StandardCharsets.UTF_8);
-            Gson gson = new Gson();
-            Type listType = new TypeToken<List<Category>>() {}.getType();
-            categories = gson.fromJson(json, listType);
+            loadCategories(mapWordPack(context));
+            return true;
+        } catch (IOException e) {
+            // No usable pack (missing or compressed) - fall back to the JSON source
+            return false;
+        }
+    }
+
+    private void loadWordBank(Context context) {
+        try (InputStream is = context.getAssets().open("words.json")) {
+            loadCategories(is);
         } catch (IOException e) {
             e.printStackTrace();
-            categories = getDefaultCategories();
+            setCategories(getDefaultCategories());
+        }
+    }
+
+    /**
+     * Load categories by streaming them from a word bank JSON stream.
+     * The stream is not closed.
+     */
+    public void loadCategories(InputStream is) throws IOException {
+        setCategories(WordBankParser.parse(is));
+    }
+
+    /**
+     * Load categories from a precompiled word pack. Words are materialized lazily.
+     */
+    public void loadCategories(WordPack pack) {
+        setCategories(pack.toCategories());
+    }
+
+    private void setCategories(List<Category> loaded) {
+        wordIndex = new WordIndex(loaded);
+        categories = loaded;
+        customWords.clear();
+        customWordIds.clear();
+    }
+
+    /**
+     * Add saved custom words to the loaded categories, one index append each.
+     * Words whose category no longer exists are kept but never dealt.
+     */
+    void mergeCustomWords(List<CustomWord> saved) {
+        for (CustomWord customWord : saved) {
+            if (customWord.getId() <= 0) {
+                customWord.setId(nextCustomWordId);
+            }
+            nextCustomWordId = Math.max(nextCustomWordId, customWord.getId() + 1);
+            indexCustomWord(customWord);
+            customWords.add(customWord);
+        }
+    }
+
+    private void indexCustomWord(CustomWord customWord) {
+        int wordId = wordIndex.addWord(new Word(customWord.getWord(), customWord.getCategoryId(), 1));
+        if (wordId >= 0) {
+            customWordIds.put(customWord.getId(), wordId);
+        }
+    }
+
+    private static WordPack mapWordPack(Context context) throws IOException {
+        try (AssetFileDescriptor fd = context.getAssets().openFd(WordPack.ASSET_NAME);
+             FileInputStream in = fd.createInputStream();
+             FileChannel channel = in.getChannel()) {
+            return WordPack.map(channel, fd.getStartOffset(), fd.getLength());
         }
     }
 
@@ -62,33 +209,100 @@ public class WordRepository {
     }
 
     public void prepareWordsForGame(List<String> selectedCategoryIds) {
-        availableWords.clear();
-        usedWords.clear();
-        currentWordIndex = 0;
+        prepareWordsForGame(selectedCategoryIds, SessionRandom.newSeed());
+    }
 
-        for (Category category : categories) {
-            if (selectedCategoryIds.contains(category.getId()) && category.getWords() != null) {
-                availableWords.addAll(category.getWords());
-            }
+    /**
+     * Prepare a game whose word sequence is fully determined by the seed,
+     * given the same categories, difficulty weights and recently seen words
+     */
+    public void prepareWordsForGame(List<String> selectedCategoryIds, long seed) {
+        saveRecentWords();
+        recentWordsExhausted = false;
+        sessionRandom.reseed(seed);
+        this.selectedCategoryIds = new ArrayList<>(selectedCategoryIds);
+        wordDraws = 0;
+
+        // Reuses the index's id arrays when the same categories are picked again;
+        // the decks shuffle lazily as words are drawn, so this is O(1) then
+        wordSampler.reset(wordIndex.selectWordIds(selectedCategoryIds));
+    }
+
+    /**
+     * The random source of the current game, for any other sampling that
+     * should replay from the same seed
+     */
+    public SessionRandom getSessionRandom() {
+        return sessionRandom;
+    }
+
+    public long getSessionSeed() {
+        return sessionRandom.getSeed();
+    }
+
+    public List<String> getSelectedCategoryIds() {
+        return Collections.unmodifiableList(selectedCategoryIds);
+    }
+
+    /**
+     * Words drawn from the decks this game, including redraws of recently
+     * seen words
+     */
+    public int getWordDraws() {
+        return wordDraws;
+    }
+
+    public boolean isRecentWordsExhausted() {
+        return recentWordsExhausted;
+    }
+
+    /**
+     * Put the decks back where a game left them: prepare the same selection
+     * with the same seed and repeat its draws. The word bank and difficulty
+     * weights must be the ones the game was played with.
+     */
+    public void restoreGame(List<String> selectedCategoryIds, long seed, int draws, boolean recentExhausted) {
+        prepareWordsForGame(selectedCategoryIds, seed);
+        for (int i = 0; i < draws; i++) {
+            drawWordId();
         }
+        recentWordsExhausted = recentExhausted;
+    }
+
+    /**
+     * Set the relative weight of easy, medium and hard words for the game
+     */
+    public void setDifficultyWeights(double[] weights) {
+        wordSampler.setWeights(weights);
+    }
 
-        // Shuffle words for randomness
-        Collections.shuffle(availableWords);
+    private int drawWordId() {
+        wordDraws++;
+        return wordSampler.draw();
     }
 
     public Word getNextWord() {
-        if (availableWords.isEmpty()) {
+        int wordId = drawWordId();
+        lastWordId = wordId;
+        if (wordId < 0) {
             return null;
         }
 
-        if (currentWordIndex >= availableWords.size()) {
-            // Reset and reshuffle if we run out of words
-            currentWordIndex = 0;
-            Collections.shuffle(availableWords);
+        Word word = wordIndex.getWord(wordId);
+        int key = RecentWordsFilter.keyOf(word);
+        if (!recentWordsExhausted && recentWords.contains(key)) {
+            int skips = 0;
+            while (recentWords.contains(key) && skips++ < MAX_RECENT_SKIPS) {
+                wordId = drawWordId();
+                word = wordIndex.getWord(wordId);
+                key = RecentWordsFilter.keyOf(word);
+            }
+            lastWordId = wordId;
+            // Nearly every selected word was seen recently; stop filtering
+            // for the rest of this game instead of burning draws on each word
+            recentWordsExhausted = recentWords.contains(key);
         }
-
-        Word word = availableWords.get(currentWordIndex);
-        currentWordIndex++;
+        recentWords.add(key);
         return word;
     }
 
@@ -96,31 +310,100 @@ public class WordRepository {
         return getNextWord();
     }
 
+    /**
+     * Index id of the word last dealt, -1 if none was; see {@link #getWord(int)}
+     */
+    public int getLastWordId() {
+        return lastWordId;
+    }
+
+    /**
+     * A word by index id, as logged by a game; null if the id is unknown
+     * or the word was removed since
+     */
+    public Word getWord(int wordId) {
+        WordIndex index = wordIndex;
+        if (!index.contains(wordId)) {
+            return null;
+        }
+        return index.getWord(wordId);
+    }
+
     public int getRemainingWordsCount() {
-        return availableWords.size() - currentWordIndex;
+        return wordSampler.remaining();
     }
 
     public void reset() {
-        availableWords.clear();
-        usedWords.clear();
-        currentWordIndex = 0;
+        wordSampler.clear();
+        saveRecentWords();
     }
 
     /**
-     * Add a custom word to a category
+     * Forget which words were seen in earlier games
      */
-    public void addCustomWord(String text, String categoryId) {
-        Word customWord = new Word(text, categoryId, 1);
-
-        // Find the category and add the word
-        for (Category category : categories) {
-            if (category.getId().equals(categoryId)) {
-                if (category.getWords() == null) {
-                    category.setWords(new ArrayList<>());
-                }
-                category.getWords().add(customWord);
-                break;
+    public void clearRecentWords() {
+        recentWords.clear();
+        saveRecentWords();
+    }
+
+    /**
+     * Persist the recently seen words in the background. The keys are copied
+     * here, so the caller may keep drawing words.
+     */
+    private void saveRecentWords() {
+        File file = recentWordsFile;
+        if (file == null) {
+            return;
+        }
+        int[] keys = recentWords.snapshot();
+        AppExecutors.io().execute(() -> {
+            try {
+                RecentWordsFilter.save(file, keys);
+            } catch (IOException e) {
+                e.printStackTrace();
             }
+        });
+    }
+
+    /**
+     * Words added by the user, oldest first. Read-only.
+     */
+    public List<CustomWord> getCustomWords() {
+        return Collections.unmodifiableList(customWords);
+    }
+
+    /**
+     * Add a custom word to a category and save it
+     */
+    public CustomWord addCustomWord(String text, Category category) {
+        CustomWord customWord = new CustomWord(nextCustomWordId++, text, category.getId(), category.getName());
+
+        // The index appends the word to its category's list
+        indexCustomWord(customWord);
+        customWords.add(customWord);
+        CustomWordStore store = customWordStore;
+        if (store != null) {
+            store.add(customWord);
+        }
+        return customWord;
+    }
+
+    /**
+     * Remove a custom word from its category and from storage
+     *
+     * @param index the word's position in {@link #getCustomWords()}, which
+     *              callers showing the list already know, so nothing is
+     *              searched for
+     */
+    public void deleteCustomWord(int index) {
+        CustomWord customWord = customWords.remove(index);
+        Integer wordId = customWordIds.remove(customWord.getId());
+        if (wordId != null) {
+            wordIndex.removeWord(wordId);
+        }
+        CustomWordStore store = customWordStore;
+        if (store != null) {
+            store.remove(customWord);
         }
     }
 
@@ -0,0 +1,599 @@
+package com.example.dor.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The rules of Dor as a plain state machine.
+ *
+ * Teams sit around the table in order and each has a shared time budget that
+ * runs only while one of its players holds the bomb. A player who guesses
+ * passes the bomb to the next team; the bomb's fuse keeps burning. When the
+ * fuse runs out the holding team loses {@link GameRules#getPenaltyMillis()}
+ * and the same player starts the next round. A team whose budget reaches zero
+ * is eliminated, and the last team standing wins.
+ *
+ * Players sit in seats numbered in turn order, seat = player * teamCount +
+ * team, and the bomb goes round them as a ring: a doubly linked list over
+ * seat arrays. An eliminated team's seats are unlinked, so finding the next
+ * player never walks past teams that are out, whatever the party size.
+ *
+ * Every input carries the caller's current time in milliseconds. Deadlines
+ * that passed before an input are processed first, so feeding the same inputs
+ * with the same times always produces the same events. The engine has no
+ * clock or threads of its own and allocates nothing after construction.
+ */
+public class GameEngine {
+
+    public enum Phase {
+        /** Waiting for the current player to start a round */
+        WAITING,
+        /** A round is running */
+        PLAYING,
+        /** One team or none is left */
+        OVER
+    }
+
+    /**
+     * Receives what happened, in order. All methods default to doing nothing.
+     */
+    public interface Listener {
+        /** A round started; the current player needs a word */
+        default void onTurnStarted(int team, int player) {
+        }
+
+        /** The word was guessed after the given time */
+        default void onWordGuessed(int team, long timeSpentMillis) {
+        }
+
+        /** The bomb moved on mid-round; the new player needs a word */
+        default void onTurnPassed(int team, int player) {
+        }
+
+        /** The word was skipped; the same player needs a new word */
+        default void onWordSkipped(int team) {
+        }
+
+        /** Skipping is allowed again */
+        default void onSkipReady() {
+        }
+
+        default void onBombExploded(int team, long timeSpentMillis, long penaltyMillis) {
+        }
+
+        default void onTeamEliminated(int team) {
+        }
+
+        /** The round is over; the given player starts the next one */
+        default void onWaitingForTurn(int team, int player) {
+        }
+
+        /** @param winnerTeam the last team standing, or -1 if none is left */
+        default void onGameOver(int winnerTeam) {
+        }
+
+        default void onPaused() {
+        }
+
+        default void onResumed() {
+        }
+    }
+
+    private static final Listener NO_LISTENER = new Listener() {
+    };
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final GameRules rules;
+    private final int teamCount;
+    private final int playersPerTeam;
+    private Listener listener = NO_LISTENER;
+
+    // Team budgets as of spendStart for the current team, and as of now for the others
+    private final long[] teamRemaining;
+    // Eliminated teams as a bitset, with the count and index sum of the
+    // teams still in kept alongside, so none of them is ever recounted
+    private final long[] eliminated;
+    private int activeTeams;
+    private int activeTeamSum;
+
+    private Phase phase = Phase.WAITING;
+    private boolean paused;
+    private long pausedAt;
+    private long now;
+
+    private int currentTeam;
+    private int currentPlayer;
+    private int currentSeat;
+
+    // Turn order ring over the seats of teams still in. An unlinked seat
+    // keeps pointing at the seat that followed it, so the bomb can still
+    // move on from a player whose team was just eliminated.
+    private final int[] nextSeat;
+    private final int[] prevSeat;
+
+    // Round state, in the caller's time
+    private long bombDeadline = NEVER;
+    private long skipReadyAt = NEVER;
+    private long spendStart;
+    private long wordStartedAt;
+
+    private long transitions;
+
+    public GameEngine(GameRules rules, int teamCount, int playersPerTeam) {
+        if (teamCount < 1 || playersPerTeam < 1) {
+            throw new IllegalArgumentException("Need at least one team and one player per team");
+        }
+        this.rules = rules;
+        this.teamCount = teamCount;
+        this.playersPerTeam = playersPerTeam;
+        this.teamRemaining = new long[teamCount];
+        this.eliminated = new long[(teamCount + 63) >>> 6];
+        this.nextSeat = new int[teamCount * playersPerTeam];
+        this.prevSeat = new int[teamCount * playersPerTeam];
+        reset();
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    /**
+     * Start over with full budgets at time 0; the first player of the first
+     * team starts
+     */
+    public void reset() {
+        Arrays.fill(teamRemaining, rules.getTeamTimeMillis());
+        Arrays.fill(eliminated, 0);
+        activeTeams = teamCount;
+        activeTeamSum = teamCount * (teamCount - 1) / 2;
+        phase = teamCount > 1 ? Phase.WAITING : Phase.OVER;
+        paused = false;
+        now = 0;
+        moveToSeat(0);
+        linkSeats();
+        bombDeadline = NEVER;
+        skipReadyAt = NEVER;
+        transitions = 0;
+    }
+
+    /**
+     * Write everything needed to carry on from this exact moment, see
+     * {@link #readState(DataInput)}. The rules are not included.
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(teamCount);
+        out.writeInt(playersPerTeam);
+        for (int team = 0; team < teamCount; team++) {
+            out.writeLong(teamRemaining[team]);
+            out.writeBoolean(isEliminated(team));
+        }
+        out.writeByte(phase.ordinal());
+        out.writeBoolean(paused);
+        out.writeLong(pausedAt);
+        out.writeLong(now);
+        out.writeInt(currentTeam);
+        out.writeInt(currentPlayer);
+        out.writeLong(bombDeadline);
+        out.writeLong(skipReadyAt);
+        out.writeLong(spendStart);
+        out.writeLong(wordStartedAt);
+        out.writeLong(transitions);
+    }
+
+    /**
+     * Continue from state written by {@link #writeState(DataOutput)} for an
+     * engine with the same rules and table size. No events are fired.
+     */
+    public void readState(DataInput in) throws IOException {
+        if (in.readInt() != teamCount || in.readInt() != playersPerTeam) {
+            throw new IOException("Saved game has a different table size");
+        }
+        Arrays.fill(eliminated, 0);
+        activeTeams = 0;
+        activeTeamSum = 0;
+        for (int team = 0; team < teamCount; team++) {
+            teamRemaining[team] = in.readLong();
+            if (in.readBoolean()) {
+                eliminated[team >>> 6] |= 1L << team;
+            } else {
+                activeTeams++;
+                activeTeamSum += team;
+            }
+        }
+        int phaseIndex = in.readByte();
+        if (phaseIndex < 0 || phaseIndex >= Phase.values().length) {
+            throw new IOException("Bad phase in saved game");
+        }
+        phase = Phase.values()[phaseIndex];
+        paused = in.readBoolean();
+        pausedAt = in.readLong();
+        now = in.readLong();
+        int team = in.readInt();
+        int player = in.readInt();
+        if (team < 0 || team >= teamCount || player < 0 || player >= playersPerTeam) {
+            throw new IOException("Bad seat in saved game");
+        }
+        moveToSeat(player * teamCount + team);
+        linkSeats();
+        bombDeadline = in.readLong();
+        skipReadyAt = in.readLong();
+        spendStart = in.readLong();
+        wordStartedAt = in.readLong();
+        transitions = in.readLong();
+    }
+
+    // Inputs
+
+    /**
+     * The current player starts a round
+     *
+     * @return false if no round can start now
+     */
+    public boolean startTurn(long time) {
+        advanceTo(time);
+        if (phase != Phase.WAITING || paused) {
+            return false;
+        }
+        transitions++;
+        phase = Phase.PLAYING;
+        bombDeadline = now + rules.getBombTimeMillis();
+        spendStart = now;
+        dealWord();
+        listener.onTurnStarted(currentTeam, currentPlayer);
+        return true;
+    }
+
+    /**
+     * The current word was guessed; the bomb passes to the next team
+     *
+     * @return false if no round is running
+     */
+    public boolean wordGuessed(long time) {
+        advanceTo(time);
+        if (phase != Phase.PLAYING || paused) {
+            return false;
+        }
+        transitions++;
+        int team = currentTeam;
+        settleTeamTime();
+        listener.onWordGuessed(team, now - wordStartedAt);
+
+        moveToNextTeam();
+        if (activeTeams <= 1) {
+            endGame();
+            return true;
+        }
+        spendStart = now;
+        dealWord();
+        listener.onTurnPassed(currentTeam, currentPlayer);
+        return true;
+    }
+
+    /**
+     * Skip the current word, if the cooldown is over
+     *
+     * @return false if skipping is not allowed now
+     */
+    public boolean skip(long time) {
+        advanceTo(time);
+        // advanceTo fired the cooldown's end if it is due
+        if (phase != Phase.PLAYING || paused || skipReadyAt != NEVER) {
+            return false;
+        }
+        transitions++;
+        dealWord();
+        listener.onWordSkipped(currentTeam);
+        return true;
+    }
+
+    public void pause(long time) {
+        advanceTo(time);
+        if (paused || phase == Phase.OVER) {
+            return;
+        }
+        paused = true;
+        pausedAt = now;
+        listener.onPaused();
+    }
+
+    /**
+     * Continue after a pause. Every running deadline moves by the paused time.
+     */
+    public void resume(long time) {
+        if (!paused) {
+            return;
+        }
+        long pausedFor = Math.max(0, time - pausedAt);
+        paused = false;
+        now = Math.max(now, time);
+        if (phase == Phase.PLAYING) {
+            bombDeadline += pausedFor;
+            spendStart += pausedFor;
+            wordStartedAt += pausedFor;
+            if (skipReadyAt != NEVER) {
+                skipReadyAt += pausedFor;
+            }
+        }
+        listener.onResumed();
+    }
+
+    /**
+     * Let time pass, firing every deadline up to the given time in order
+     */
+    public void advanceTo(long time) {
+        if (paused) {
+            return;
+        }
+        while (phase == Phase.PLAYING) {
+            long teamDeadline = spendStart + teamRemaining[currentTeam];
+            long next = Math.min(skipReadyAt, Math.min(bombDeadline, teamDeadline));
+            if (next > time) {
+                break;
+            }
+            now = Math.max(now, next);
+            transitions++;
+            if (skipReadyAt == next) {
+                skipReadyAt = NEVER;
+                listener.onSkipReady();
+            } else if (teamDeadline == next) {
+                teamTimeUp();
+            } else {
+                bombExploded();
+            }
+        }
+        now = Math.max(now, time);
+    }
+
+    // State
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public boolean isOver() {
+        return phase == Phase.OVER;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public int getPlayersPerTeam() {
+        return playersPerTeam;
+    }
+
+    public int getCurrentTeam() {
+        return currentTeam;
+    }
+
+    /**
+     * Which player of the current team holds the bomb, from 0
+     */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Seat of the player holding the bomb: player * teamCount + team, as
+     * numbered by {@link com.example.dor.models.Seating}
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public boolean isEliminated(int team) {
+        return (eliminated[team >>> 6] & 1L << team) != 0;
+    }
+
+    public int getActiveTeamCount() {
+        return activeTeams;
+    }
+
+    /**
+     * @return the last team standing, or -1 while more than one is left
+     */
+    public int getWinner() {
+        // With one team left, the sum of the teams still in is that team
+        return activeTeams == 1 ? activeTeamSum : -1;
+    }
+
+    /**
+     * Budget left for a team, counting the current round's spending
+     */
+    public long getTeamRemainingMillis(int team) {
+        long remaining = teamRemaining[team];
+        if (team == currentTeam && phase == Phase.PLAYING) {
+            long end = paused ? pausedAt : now;
+            remaining -= end - spendStart;
+        }
+        return Math.max(0, remaining);
+    }
+
+    public long getBombRemainingMillis() {
+        if (phase != Phase.PLAYING) {
+            return rules.getBombTimeMillis();
+        }
+        return Math.max(0, bombDeadline - (paused ? pausedAt : now));
+    }
+
+    /**
+     * When the running round ends unless the bomb is passed first: the bomb's
+     * deadline or the current team's, whichever comes first
+     */
+    public long getRoundDeadline() {
+        if (phase != Phase.PLAYING) {
+            return NEVER;
+        }
+        return Math.min(bombDeadline, spendStart + teamRemaining[currentTeam]);
+    }
+
+    public boolean canSkip() {
+        return phase == Phase.PLAYING && !paused && skipReadyAt == NEVER;
+    }
+
+    public long getSkipRemainingMillis() {
+        return skipReadyAt == NEVER ? 0 : Math.max(0, skipReadyAt - (paused ? pausedAt : now));
+    }
+
+    /**
+     * The team that gets the bomb after the current one
+     */
+    public int getNextTeam() {
+        return getNextSeat() % teamCount;
+    }
+
+    /**
+     * The player of {@link #getNextTeam()} that gets the bomb
+     */
+    public int getNextPlayer() {
+        return getNextSeat() / teamCount;
+    }
+
+    /**
+     * Seat of the player that gets the bomb after the current one
+     */
+    public int getNextSeat() {
+        return nextSeat[currentSeat];
+    }
+
+    /**
+     * Game time as last seen by the engine
+     */
+    public long getTime() {
+        return now;
+    }
+
+    /**
+     * Inputs and deadlines processed since the last reset
+     */
+    public long getTransitionCount() {
+        return transitions;
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
+
+    // Rules
+
+    private void dealWord() {
+        wordStartedAt = now;
+        skipReadyAt = now + rules.getSkipCooldownMillis();
+    }
+
+    private void settleTeamTime() {
+        teamRemaining[currentTeam] = Math.max(0, teamRemaining[currentTeam] - (now - spendStart));
+        spendStart = now;
+    }
+
+    private void bombExploded() {
+        int team = currentTeam;
+        settleTeamTime();
+        long penalty = rules.getPenaltyMillis();
+        teamRemaining[team] = Math.max(0, teamRemaining[team] - penalty);
+        endRound();
+        listener.onBombExploded(team, now - wordStartedAt, penalty);
+
+        // Same player starts the next round, unless the penalty knocked the team out
+        if (teamRemaining[team] <= 0) {
+            eliminate(team);
+        } else {
+            listener.onWaitingForTurn(currentTeam, currentPlayer);
+        }
+    }
+
+    private void teamTimeUp() {
+        int team = currentTeam;
+        teamRemaining[team] = 0;
+        spendStart = now;
+        endRound();
+        eliminate(team);
+    }
+
+    private void eliminate(int team) {
+        if (isEliminated(team)) {
+            return;
+        }
+        eliminated[team >>> 6] |= 1L << team;
+        activeTeams--;
+        activeTeamSum -= team;
+        unlinkTeam(team);
+        listener.onTeamEliminated(team);
+
+        moveToNextTeam();
+        if (activeTeams <= 1) {
+            endGame();
+        } else {
+            listener.onWaitingForTurn(currentTeam, currentPlayer);
+        }
+    }
+
+    private void endRound() {
+        phase = Phase.WAITING;
+        bombDeadline = NEVER;
+        skipReadyAt = NEVER;
+    }
+
+    private void endGame() {
+        endRound();
+        phase = Phase.OVER;
+        listener.onGameOver(getWinner());
+    }
+
+    /**
+     * Pass to the next seat whose team is still in: the next team, and that
+     * team's next player whenever the order wraps around
+     */
+    private void moveToNextTeam() {
+        moveToSeat(nextSeat[currentSeat]);
+    }
+
+    private void moveToSeat(int seat) {
+        currentSeat = seat;
+        currentTeam = seat % teamCount;
+        currentPlayer = seat / teamCount;
+    }
+
+    /**
+     * Build the ring from scratch: every seat points at the next seat in turn
+     * order whose team is still in
+     */
+    private void linkSeats() {
+        int seats = nextSeat.length;
+        int following = currentSeat;
+        // Two laps backwards, so the first one wraps the order around
+        for (int i = 2 * seats - 1; i >= 0; i--) {
+            int seat = i % seats;
+            if (i < seats) {
+                nextSeat[seat] = following;
+            }
+            if (!isEliminated(seat % teamCount)) {
+                following = seat;
+            }
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            if (!isEliminated(seat % teamCount)) {
+                prevSeat[nextSeat[seat]] = seat;
+            }
+        }
+    }
+
+    /**
+     * Take a team's seats out of the ring, one unlink per player
+     */
+    private void unlinkTeam(int team) {
+        for (int seat = team; seat < nextSeat.length; seat += teamCount) {
+            int prev = prevSeat[seat];
+            int next = nextSeat[seat];
+            nextSeat[prev] = next;
+            prevSeat[next] = prev;
+        }
+    }
+}
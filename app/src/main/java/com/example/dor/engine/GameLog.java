@@ -0,0 +1,361 @@
+package com.example.dor.engine;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+/**
+ * Append-only binary log of everything that happened in a game.
+ *
+ * The log starts with a header holding the rules and table size, followed by
+ * one record per {@link GameEngine} event. A record is a type byte, the game
+ * time since the previous record and, depending on the type, a seat and a
+ * word id, all as unsigned varints - usually 3 to 6 bytes. Because the engine
+ * is deterministic, replaying the player inputs in the log (starts, guesses,
+ * skips, pauses) rebuilds the whole game; see {@link GameReplay}.
+ *
+ * Seats number players around the table: seat = player * teamCount + team.
+ *
+ * Appending only encodes into memory. A writer drains the new bytes with
+ * {@link #takePending()} and stores them wherever it likes.
+ */
+public class GameLog {
+
+    // Inputs
+    public static final byte TURN_STARTED = 1;
+    public static final byte WORD_GUESSED = 2;
+    public static final byte WORD_SKIPPED = 3;
+    public static final byte PAUSED = 4;
+    public static final byte RESUMED = 5;
+    // Consequences, kept so the log can be read without replaying it
+    public static final byte TURN_PASSED = 6;
+    public static final byte SKIP_READY = 7;
+    public static final byte BOMB_EXPLODED = 8;
+    public static final byte TEAM_ELIMINATED = 9;
+    public static final byte WAITING_FOR_TURN = 10;
+    public static final byte GAME_OVER = 11;
+
+    private static final byte LAST_TYPE = GAME_OVER;
+
+    private static final int MAGIC = 0x44474C47; // "DGLG"
+    private static final int VERSION = 1;
+
+    private byte[] buffer = new byte[1024];
+    private int length;
+    private int pendingFrom;
+    private long lastTime;
+    private int recordCount;
+
+    private final int teamCount;
+
+    public GameLog(GameRules rules, int teamCount, int playersPerTeam) {
+        this.teamCount = teamCount;
+        writeInt(MAGIC);
+        writeVarint(VERSION);
+        writeVarint(teamCount);
+        writeVarint(playersPerTeam);
+        writeVarint(rules.getTeamTimeMillis());
+        writeVarint(rules.getBombTimeMillis());
+        writeVarint(rules.getPenaltyMillis());
+        writeVarint(rules.getSkipCooldownMillis());
+    }
+
+    /**
+     * Carry on appending to a log saved earlier. A torn last record is
+     * dropped; all the bytes kept count as pending.
+     */
+    public static GameLog resume(byte[] data, int length) throws IOException {
+        Reader reader = new Reader(data, length);
+        GameLog log = new GameLog(reader.getRules(), reader.getTeamCount(), reader.getPlayersPerTeam());
+        log.length = 0;
+        int end = reader.position;
+        while (reader.next()) {
+            log.recordCount++;
+            log.lastTime = reader.getTime();
+            end = reader.position;
+        }
+        log.ensureCapacity(end);
+        System.arraycopy(data, 0, log.buffer, 0, end);
+        log.length = end;
+        return log;
+    }
+
+    /** Whether records of this type carry a seat */
+    static boolean hasSeat(int type) {
+        return type != PAUSED && type != RESUMED && type != SKIP_READY;
+    }
+
+    /** Whether records of this type carry the id of the word just dealt */
+    static boolean hasWord(int type) {
+        return type == TURN_STARTED || type == TURN_PASSED || type == WORD_SKIPPED;
+    }
+
+    public int seatOf(int team, int player) {
+        return player * teamCount + team;
+    }
+
+    /**
+     * Append a record
+     *
+     * @param time   game time in milliseconds, never earlier than the last record's
+     * @param seat   the player concerned; for {@link #TEAM_ELIMINATED} and
+     *               {@link #GAME_OVER} the team, -1 for none
+     * @param wordId the word dealt, -1 for none
+     */
+    public void append(byte type, long time, int seat, int wordId) {
+        if (time < lastTime) {
+            throw new IllegalArgumentException("Log time went back from " + lastTime + " to " + time);
+        }
+        ensureCapacity(1 + 10 + 5 + 5);
+        buffer[length++] = type;
+        writeVarint(time - lastTime);
+        lastTime = time;
+        if (hasSeat(type)) {
+            writeVarint(seat + 1);
+        }
+        if (hasWord(type)) {
+            writeVarint(wordId + 1);
+        }
+        recordCount++;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Encoded size in bytes, header included
+     */
+    public int size() {
+        return length;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * Bytes appended since the last call; the first call includes the header
+     */
+    public byte[] takePending() {
+        byte[] pending = Arrays.copyOfRange(buffer, pendingFrom, length);
+        pendingFrom = length;
+        return pending;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(4);
+        buffer[length++] = (byte) (value >>> 24);
+        buffer[length++] = (byte) (value >>> 16);
+        buffer[length++] = (byte) (value >>> 8);
+        buffer[length++] = (byte) value;
+    }
+
+    private void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    /**
+     * Logs every event of an engine. Pass it the events after the word for
+     * them has been dealt, so the word id is current.
+     */
+    public static class Recorder implements GameEngine.Listener {
+        private final GameLog log;
+        private final GameEngine engine;
+        private final IntSupplier currentWordId;
+
+        public Recorder(GameLog log, GameEngine engine, IntSupplier currentWordId) {
+            this.log = log;
+            this.engine = engine;
+            this.currentWordId = currentWordId;
+        }
+
+        private void record(byte type, int seat, int wordId) {
+            log.append(type, engine.getTime(), seat, wordId);
+        }
+
+        @Override
+        public void onTurnStarted(int team, int player) {
+            record(TURN_STARTED, log.seatOf(team, player), currentWordId.getAsInt());
+        }
+
+        @Override
+        public void onWordGuessed(int team, long timeSpentMillis) {
+            record(WORD_GUESSED, log.seatOf(team, engine.getCurrentPlayer()), -1);
+        }
+
+        @Override
+        public void onTurnPassed(int team, int player) {
+            record(TURN_PASSED, log.seatOf(team, player), currentWordId.getAsInt());
+        }
+
+        @Override
+        public void onWordSkipped(int team) {
+            record(WORD_SKIPPED, log.seatOf(team, engine.getCurrentPlayer()), currentWordId.getAsInt());
+        }
+
+        @Override
+        public void onSkipReady() {
+            record(SKIP_READY, -1, -1);
+        }
+
+        @Override
+        public void onBombExploded(int team, long timeSpentMillis, long penaltyMillis) {
+            record(BOMB_EXPLODED, log.seatOf(team, engine.getCurrentPlayer()), -1);
+        }
+
+        @Override
+        public void onTeamEliminated(int team) {
+            record(TEAM_ELIMINATED, team, -1);
+        }
+
+        @Override
+        public void onWaitingForTurn(int team, int player) {
+            record(WAITING_FOR_TURN, log.seatOf(team, player), -1);
+        }
+
+        @Override
+        public void onGameOver(int winnerTeam) {
+            record(GAME_OVER, winnerTeam, -1);
+        }
+
+        @Override
+        public void onPaused() {
+            record(PAUSED, -1, -1);
+        }
+
+        @Override
+        public void onResumed() {
+            record(RESUMED, -1, -1);
+        }
+    }
+
+    /**
+     * Reads a log front to back. A record cut off at the end, as left by a
+     * crash mid-write, ends the log.
+     */
+    public static final class Reader {
+        private final byte[] data;
+        private final int end;
+        private int position;
+
+        private final int teamCount;
+        private final int playersPerTeam;
+        private final GameRules rules;
+
+        private byte type;
+        private long time;
+        private int seat;
+        private int wordId;
+
+        public Reader(byte[] data, int length) throws IOException {
+            this.data = data;
+            this.end = length;
+            if (length < 4) {
+                throw new IOException("Game log header is cut off");
+            }
+            try {
+                int magic = (data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16 | (data[2] & 0xFF) << 8 | (data[3] & 0xFF);
+                position = 4;
+                if (magic != MAGIC || readVarint() != VERSION) {
+                    throw new IOException("Not a game log");
+                }
+                teamCount = (int) readVarint();
+                playersPerTeam = (int) readVarint();
+                rules = new GameRules(readVarint(), readVarint(), readVarint(), readVarint());
+            } catch (IndexOutOfBoundsException e) {
+                throw new IOException("Game log header is cut off", e);
+            }
+            if (teamCount < 1 || playersPerTeam < 1) {
+                throw new IOException("Bad table size in game log");
+            }
+        }
+
+        public int getTeamCount() {
+            return teamCount;
+        }
+
+        public int getPlayersPerTeam() {
+            return playersPerTeam;
+        }
+
+        public GameRules getRules() {
+            return rules;
+        }
+
+        /**
+         * Move to the next record
+         *
+         * @return false at the end of the log
+         */
+        public boolean next() {
+            if (position >= end) {
+                return false;
+            }
+            int start = position;
+            try {
+                byte nextType = data[position++];
+                if (nextType < TURN_STARTED || nextType > LAST_TYPE) {
+                    position = end;
+                    return false;
+                }
+                long nextTime = time + readVarint();
+                int nextSeat = hasSeat(nextType) ? (int) readVarint() - 1 : -1;
+                int nextWord = hasWord(nextType) ? (int) readVarint() - 1 : -1;
+                type = nextType;
+                time = nextTime;
+                seat = nextSeat;
+                wordId = nextWord;
+                return true;
+            } catch (IndexOutOfBoundsException e) {
+                // Torn final record
+                position = start;
+                return false;
+            }
+        }
+
+        public byte getType() {
+            return type;
+        }
+
+        /** Game time of the record in milliseconds */
+        public long getTime() {
+            return time;
+        }
+
+        /** The record's seat, or for team records the team; -1 for none */
+        public int getSeat() {
+            return seat;
+        }
+
+        public int getWordId() {
+            return wordId;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= end) {
+                    throw new IndexOutOfBoundsException();
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.dor.engine;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Plays a {@link GameLog} back through a fresh {@link GameEngine}.
+ *
+ * Only the logged inputs are fed in, at their logged times; the engine works
+ * out the rest exactly as it did the first time, so a listener on
+ * {@link #getEngine()} sees the original game's events in order. Playback
+ * speed is up to the caller: advance by elapsed time times the speed.
+ */
+public class GameReplay {
+
+    private final GameEngine engine;
+
+    // Input records, in order
+    private final byte[] types;
+    private final long[] times;
+    // Word dealt by each input, -1 for none
+    private final int[] wordIds;
+    private final int inputCount;
+    private final long durationMillis;
+
+    private int nextInput;
+    private int wordId = -1;
+
+    public GameReplay(byte[] log, int length) throws IOException {
+        GameLog.Reader reader = new GameLog.Reader(log, length);
+        engine = new GameEngine(reader.getRules(), reader.getTeamCount(), reader.getPlayersPerTeam());
+
+        byte[] types = new byte[64];
+        long[] times = new long[64];
+        int[] wordIds = new int[64];
+        int count = 0;
+        long lastTime = 0;
+        while (reader.next()) {
+            byte type = reader.getType();
+            lastTime = reader.getTime();
+            if (type == GameLog.TURN_PASSED) {
+                // The word dealt when the bomb moved on belongs to the guess before it
+                if (count > 0 && types[count - 1] == GameLog.WORD_GUESSED) {
+                    wordIds[count - 1] = reader.getWordId();
+                }
+                continue;
+            }
+            if (type > GameLog.RESUMED) {
+                continue;
+            }
+            if (count == types.length) {
+                types = Arrays.copyOf(types, count * 2);
+                times = Arrays.copyOf(times, count * 2);
+                wordIds = Arrays.copyOf(wordIds, count * 2);
+            }
+            types[count] = type;
+            times[count] = lastTime;
+            wordIds[count] = reader.getWordId();
+            count++;
+        }
+        this.types = types;
+        this.times = times;
+        this.wordIds = wordIds;
+        this.inputCount = count;
+        this.durationMillis = lastTime;
+    }
+
+    /**
+     * The engine being replayed into; set a listener on it to watch the game
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Game time of the last logged event
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Id of the word the last input dealt, for listeners that show words; -1
+     * if it dealt none
+     */
+    public int getWordId() {
+        return wordId;
+    }
+
+    /**
+     * Whether every logged input has been replayed
+     */
+    public boolean isFinished() {
+        return nextInput == inputCount
+                && (engine.isOver() || engine.isPaused() || engine.getTime() >= durationMillis);
+    }
+
+    /**
+     * Replay everything up to the given game time
+     */
+    public void advanceTo(long time) {
+        while (nextInput < inputCount && times[nextInput] <= time) {
+            int i = nextInput++;
+            wordId = wordIds[i];
+            long at = times[i];
+            switch (types[i]) {
+                case GameLog.TURN_STARTED:
+                    engine.startTurn(at);
+                    break;
+                case GameLog.WORD_GUESSED:
+                    engine.wordGuessed(at);
+                    break;
+                case GameLog.WORD_SKIPPED:
+                    engine.skip(at);
+                    break;
+                case GameLog.PAUSED:
+                    engine.pause(at);
+                    break;
+                case GameLog.RESUMED:
+                    engine.resume(at);
+                    break;
+                default:
+                    break;
+            }
+        }
+        engine.advanceTo(Math.min(time, durationMillis));
+    }
+}
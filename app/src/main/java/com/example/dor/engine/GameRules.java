@@ -0,0 +1,39 @@
+package com.example.dor.engine;
+
+/**
+ * Timing rules of a game
+ */
+public final class GameRules {
+
+    private final long teamTimeMillis;
+    private final long bombTimeMillis;
+    private final long penaltyMillis;
+    private final long skipCooldownMillis;
+
+    public GameRules(long teamTimeMillis, long bombTimeMillis, long penaltyMillis, long skipCooldownMillis) {
+        this.teamTimeMillis = teamTimeMillis;
+        this.bombTimeMillis = bombTimeMillis;
+        this.penaltyMillis = penaltyMillis;
+        this.skipCooldownMillis = skipCooldownMillis;
+    }
+
+    /** Time budget of each team for the whole game */
+    public long getTeamTimeMillis() {
+        return teamTimeMillis;
+    }
+
+    /** Fuse of the bomb, reset at the start of every round */
+    public long getBombTimeMillis() {
+        return bombTimeMillis;
+    }
+
+    /** Taken from the team holding the bomb when it explodes */
+    public long getPenaltyMillis() {
+        return penaltyMillis;
+    }
+
+    /** Wait before a word can be skipped, after a word is dealt */
+    public long getSkipCooldownMillis() {
+        return skipCooldownMillis;
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.dor.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays whole games headless, for tuning {@link GameRules}.
+ *
+ * Each game runs a {@link GameEngine} on a virtual clock: players take a
+ * sampled time to guess each word, give up on slow words once skipping is
+ * allowed, and the next round starts the moment the last one ends. Games are
+ * split across a {@link ForkJoinPool}, and game n always uses the same random
+ * stream, so a run is reproducible from its seed however it is split.
+ */
+public class GameSimulator {
+
+    // Games one task plays before it stops splitting
+    private static final int BATCH_GAMES = 256;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final GameRules rules;
+    private final int teamCount;
+    private final int playersPerTeam;
+    private final GuessTimes guessTimes;
+
+    private double[] levelWeights = {1, 1, 1};
+    private long skipAfterMillis;
+
+    public GameSimulator(GameRules rules, int teamCount, int playersPerTeam, GuessTimes guessTimes) {
+        if (teamCount < 2) {
+            throw new IllegalArgumentException("A game needs at least two teams");
+        }
+        this.rules = rules;
+        this.teamCount = teamCount;
+        this.playersPerTeam = playersPerTeam;
+        this.guessTimes = guessTimes;
+    }
+
+    /**
+     * How often each word difficulty comes up: relative weights for easy,
+     * medium and hard
+     */
+    public void setLevelWeights(double[] levelWeights) {
+        this.levelWeights = levelWeights.clone();
+    }
+
+    /**
+     * Players skip a word once they have been on it this long and skipping is
+     * allowed; 0 means they never skip
+     */
+    public void setSkipAfterMillis(long skipAfterMillis) {
+        this.skipAfterMillis = skipAfterMillis;
+    }
+
+    /**
+     * Play the games on all cores
+     */
+    public SimulationReport run(int games, long seed) {
+        return run(games, seed, ForkJoinPool.commonPool());
+    }
+
+    public SimulationReport run(int games, long seed, ForkJoinPool pool) {
+        double[] cumulative = cumulativeWeights(levelWeights);
+        return pool.invoke(new Batch(this, cumulative, seed, 0, games));
+    }
+
+    private static double[] cumulativeWeights(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += Math.max(0, weight);
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one level weight must be positive");
+        }
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += Math.max(0, weights[i]);
+            cumulative[i] = sum / total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Plays a range of games, splitting it while it is large
+     */
+    private static final class Batch extends RecursiveTask<SimulationReport> {
+        private final GameSimulator simulator;
+        private final double[] cumulativeWeights;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        Batch(GameSimulator simulator, double[] cumulativeWeights, long seed, int from, int to) {
+            this.simulator = simulator;
+            this.cumulativeWeights = cumulativeWeights;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationReport compute() {
+            if (to - from > BATCH_GAMES) {
+                int mid = (from + to) >>> 1;
+                Batch left = new Batch(simulator, cumulativeWeights, seed, from, mid);
+                left.fork();
+                SimulationReport report = new Batch(simulator, cumulativeWeights, seed, mid, to).compute();
+                report.merge(left.join());
+                return report;
+            }
+
+            Player player = new Player(simulator, cumulativeWeights);
+            for (int game = from; game < to; game++) {
+                player.play(new SplittableRandom(mix64(seed + game * GOLDEN_GAMMA)));
+            }
+            return player.report;
+        }
+    }
+
+    /**
+     * Plays games one after another on one engine, tallying what happens
+     */
+    private static final class Player implements GameEngine.Listener {
+        private final GameEngine engine;
+        private final GuessTimes guessTimes;
+        private final double[] cumulativeWeights;
+        private final long skipAfterMillis;
+        final SimulationReport report;
+
+        private int eliminatedSoFar;
+
+        Player(GameSimulator simulator, double[] cumulativeWeights) {
+            this.engine = new GameEngine(simulator.rules, simulator.teamCount, simulator.playersPerTeam);
+            this.guessTimes = simulator.guessTimes;
+            this.cumulativeWeights = cumulativeWeights;
+            this.skipAfterMillis = simulator.skipAfterMillis;
+            this.report = new SimulationReport(simulator.teamCount);
+            engine.setListener(this);
+        }
+
+        void play(SplittableRandom random) {
+            engine.reset();
+            eliminatedSoFar = 0;
+            long now = 0;
+            while (!engine.isOver()) {
+                engine.startTurn(now);
+                while (engine.getPhase() == GameEngine.Phase.PLAYING) {
+                    long guessedAt = now + guessTimes.sample(random, drawLevel(random));
+                    long skipAt = skipAfterMillis > 0
+                            ? now + Math.max(skipAfterMillis, engine.getSkipRemainingMillis())
+                            : Long.MAX_VALUE;
+                    long deadline = engine.getRoundDeadline();
+
+                    // Engine time only moves forward, so never act past the end of the round
+                    if (deadline <= Math.min(guessedAt, skipAt)) {
+                        now = deadline;
+                        engine.advanceTo(now);
+                    } else if (skipAt < guessedAt) {
+                        now = skipAt;
+                        engine.skip(now);
+                    } else {
+                        now = guessedAt;
+                        engine.wordGuessed(now);
+                    }
+                }
+            }
+        }
+
+        private int drawLevel(SplittableRandom random) {
+            double u = random.nextDouble();
+            int level = 0;
+            while (level < cumulativeWeights.length - 1 && u >= cumulativeWeights[level]) {
+                level++;
+            }
+            return level;
+        }
+
+        @Override
+        public void onTurnStarted(int team, int player) {
+            report.addRound();
+        }
+
+        @Override
+        public void onWordGuessed(int team, long timeSpentMillis) {
+            report.addGuess();
+        }
+
+        @Override
+        public void onWordSkipped(int team) {
+            report.addSkip();
+        }
+
+        @Override
+        public void onBombExploded(int team, long timeSpentMillis, long penaltyMillis) {
+            report.addExplosion();
+        }
+
+        @Override
+        public void onTeamEliminated(int team) {
+            report.addElimination(team, eliminatedSoFar++);
+        }
+
+        @Override
+        public void onGameOver(int winnerTeam) {
+            report.addGame(engine.getTime(), winnerTeam);
+        }
+    }
+
+    /**
+     * Spread consecutive game numbers over unrelated random streams
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.dor.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * How long players take to get a word guessed, for {@link GameSimulator}
+ */
+public interface GuessTimes {
+
+    /**
+     * @param level word difficulty, 0 = easy, 1 = medium, 2 = hard
+     * @return milliseconds until the word is guessed, at least 1
+     */
+    long sample(SplittableRandom random, int level);
+
+    /**
+     * Log-normal guess times: most words go quickly and a few take very long
+     *
+     * @param sigma           spread of the underlying normal; 0.5 is moderate
+     * @param medianByLevelMs median guess time for easy, medium and hard words
+     */
+    static GuessTimes logNormal(double sigma, long... medianByLevelMs) {
+        double[] mu = new double[medianByLevelMs.length];
+        for (int i = 0; i < mu.length; i++) {
+            mu[i] = Math.log(medianByLevelMs[i]);
+        }
+        return (random, level) -> {
+            // Box-Muller; one of the pair is enough here
+            double u = 1.0 - random.nextDouble();
+            double normal = Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * random.nextDouble());
+            return Math.max(1, (long) Math.exp(mu[Math.min(level, mu.length - 1)] + sigma * normal));
+        };
+    }
+
+    /**
+     * Every word takes the same time for its level
+     */
+    static GuessTimes fixed(long... millisByLevel) {
+        return (random, level) -> Math.max(1, millisByLevel[Math.min(level, millisByLevel.length - 1)]);
+    }
+}
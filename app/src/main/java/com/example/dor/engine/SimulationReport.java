@@ -0,0 +1,209 @@
+package com.example.dor.engine;
+
+import java.util.Locale;
+
+/**
+ * What {@link GameSimulator} saw over many games: how long games last, who
+ * goes out first, and whether the seat a team starts in decides who wins.
+ *
+ * Teams are numbered by seat; team 0 holds the bomb first.
+ */
+public class SimulationReport {
+
+    // Game lengths in 10 second buckets; the last bucket holds everything from an hour up
+    static final long BUCKET_MILLIS = 10_000;
+    static final int BUCKETS = 361;
+
+    private final int teamCount;
+    private long games;
+
+    private final long[] lengthHistogram = new long[BUCKETS];
+    private long totalLengthMillis;
+    private long minLengthMillis = Long.MAX_VALUE;
+    private long maxLengthMillis;
+
+    private long rounds;
+    private long guesses;
+    private long skips;
+    private long explosions;
+
+    private final long[] wins;
+    // eliminations[team][k]: games in which the team was the k-th to go out
+    private final long[][] eliminations;
+
+    SimulationReport(int teamCount) {
+        this.teamCount = teamCount;
+        this.wins = new long[teamCount];
+        this.eliminations = new long[teamCount][Math.max(1, teamCount - 1)];
+    }
+
+    void addGame(long lengthMillis, int winner) {
+        games++;
+        totalLengthMillis += lengthMillis;
+        minLengthMillis = Math.min(minLengthMillis, lengthMillis);
+        maxLengthMillis = Math.max(maxLengthMillis, lengthMillis);
+        lengthHistogram[(int) Math.min(BUCKETS - 1, lengthMillis / BUCKET_MILLIS)]++;
+        if (winner >= 0) {
+            wins[winner]++;
+        }
+    }
+
+    void addRound() {
+        rounds++;
+    }
+
+    void addGuess() {
+        guesses++;
+    }
+
+    void addSkip() {
+        skips++;
+    }
+
+    void addExplosion() {
+        explosions++;
+    }
+
+    void addElimination(int team, int order) {
+        eliminations[team][order]++;
+    }
+
+    /**
+     * Add another report's games to this one
+     */
+    void merge(SimulationReport other) {
+        games += other.games;
+        totalLengthMillis += other.totalLengthMillis;
+        minLengthMillis = Math.min(minLengthMillis, other.minLengthMillis);
+        maxLengthMillis = Math.max(maxLengthMillis, other.maxLengthMillis);
+        for (int i = 0; i < BUCKETS; i++) {
+            lengthHistogram[i] += other.lengthHistogram[i];
+        }
+        rounds += other.rounds;
+        guesses += other.guesses;
+        skips += other.skips;
+        explosions += other.explosions;
+        for (int team = 0; team < teamCount; team++) {
+            wins[team] += other.wins[team];
+            for (int k = 0; k < eliminations[team].length; k++) {
+                eliminations[team][k] += other.eliminations[team][k];
+            }
+        }
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Game length counts played time only, from the first round's start to the win
+     */
+    public double getMeanLengthMillis() {
+        return games > 0 ? (double) totalLengthMillis / games : 0;
+    }
+
+    public long getMinLengthMillis() {
+        return games > 0 ? minLengthMillis : 0;
+    }
+
+    public long getMaxLengthMillis() {
+        return maxLengthMillis;
+    }
+
+    /**
+     * Game length below which the given share of games ended, to the nearest
+     * 10 seconds above
+     *
+     * @param fraction between 0 and 1, e.g. 0.9 for the 90th percentile
+     */
+    public long getLengthPercentileMillis(double fraction) {
+        long target = (long) Math.ceil(fraction * games);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += lengthHistogram[i];
+            if (seen >= target && seen > 0) {
+                return Math.min(maxLengthMillis, (i + 1) * BUCKET_MILLIS);
+            }
+        }
+        return maxLengthMillis;
+    }
+
+    /**
+     * Games per 10 second length bucket; the last bucket is open-ended
+     */
+    public long[] getLengthHistogram() {
+        return lengthHistogram.clone();
+    }
+
+    public double getRoundsPerGame() {
+        return perGame(rounds);
+    }
+
+    public double getGuessesPerGame() {
+        return perGame(guesses);
+    }
+
+    public double getSkipsPerGame() {
+        return perGame(skips);
+    }
+
+    public double getExplosionsPerGame() {
+        return perGame(explosions);
+    }
+
+    public double getWinRate(int team) {
+        return perGame(wins[team]);
+    }
+
+    /**
+     * Share of games in which the team was the given one to go out, counting from 0
+     */
+    public double getEliminationRate(int team, int order) {
+        return perGame(eliminations[team][order]);
+    }
+
+    /**
+     * Gap between the best and the worst seat's win rate. 0 means the seat
+     * order does not matter; with n teams each seat should win 1/n of games.
+     */
+    public double getWinRateSpread() {
+        double min = 1;
+        double max = 0;
+        for (int team = 0; team < teamCount; team++) {
+            double rate = getWinRate(team);
+            min = Math.min(min, rate);
+            max = Math.max(max, rate);
+        }
+        return games > 0 ? max - min : 0;
+    }
+
+    private double perGame(long count) {
+        return games > 0 ? (double) count / games : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.US,
+                "%d games, %d teams: length mean %.0fs, p10 %ds, p50 %ds, p90 %ds, max %ds%n",
+                games, teamCount, getMeanLengthMillis() / 1000,
+                getLengthPercentileMillis(0.1) / 1000, getLengthPercentileMillis(0.5) / 1000,
+                getLengthPercentileMillis(0.9) / 1000, getMaxLengthMillis() / 1000));
+        out.append(String.format(Locale.US,
+                "per game: %.1f rounds, %.1f guesses, %.1f skips, %.1f explosions%n",
+                getRoundsPerGame(), getGuessesPerGame(), getSkipsPerGame(), getExplosionsPerGame()));
+        out.append(String.format(Locale.US, "win rate spread across seats: %.3f%n", getWinRateSpread()));
+        for (int team = 0; team < teamCount; team++) {
+            out.append(String.format(Locale.US, "  seat %d: wins %.3f, out", team + 1, getWinRate(team)));
+            for (int k = 0; k < teamCount - 1; k++) {
+                out.append(String.format(Locale.US, " #%d %.3f", k + 1, getEliminationRate(team, k)));
+            }
+            out.append(String.format("%n"));
+        }
+        return out.toString();
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.dor.fragments;
 
-import android.content.Context;
-import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -23,13 +21,12 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.dor.R;
 import com.example.dor.data.WordRepository;
 import com.example.dor.models.Category;
+import com.example.dor.models.CustomWord;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 
-import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -43,12 +40,8 @@ public class AddWordsFragment extends Fragment {
     private RecyclerView myWordsRecyclerView;
     private LinearLayout emptyState;
     private WordAdapter adapter;
+    // The repository's custom words, oldest first; shown newest first
     private List<CustomWord> customWords;
-    private SharedPreferences prefs;
-    private Gson gson;
-
-    private static final String PREFS_NAME = "custom_words_prefs";
-    private static final String KEY_WORDS = "custom_words";
 
     @Nullable
     @Override
@@ -60,9 +53,6 @@ public class AddWordsFragment extends Fragment {
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
 
-        prefs = requireContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-        gson = new Gson();
-
         // Initialize views
         wordInput = view.findViewById(R.id.wordInput);
         categorySpinner = view.findViewById(R.id.categorySpinner);
@@ -70,14 +60,17 @@ public class AddWordsFragment extends Fragment {
         myWordsRecyclerView = view.findViewById(R.id.myWordsRecyclerView);
         emptyState = view.findViewById(R.id.emptyState);
 
-        // Setup category spinner
-        setupCategorySpinner();
-
         // Setup RecyclerView
         setupRecyclerView();
 
-        // Load saved words
-        loadCustomWords();
+        // Setup category spinner and saved words once the word bank is loaded
+        addWordButton.setEnabled(false);
+        WordRepository.getInstance().whenReady(categories -> {
+            if (!isAdded() || getView() == null) return;
+            setupCategorySpinner();
+            loadCustomWords();
+            addWordButton.setEnabled(true);
+        });
 
         // Add button click
         addWordButton.setOnClickListener(v -> addWord());
@@ -101,27 +94,27 @@ public class AddWordsFragment extends Fragment {
     }
 
     private void setupRecyclerView() {
-        customWords = new ArrayList<>();
+        customWords = Collections.emptyList();
         adapter = new WordAdapter();
         myWordsRecyclerView.setLayoutManager(new LinearLayoutManager(requireContext()));
         myWordsRecyclerView.setAdapter(adapter);
     }
 
     private void loadCustomWords() {
-        String json = prefs.getString(KEY_WORDS, "[]");
-        Type type = new TypeToken<List<CustomWord>>() {}.getType();
-        customWords.clear();
-        List<CustomWord> loaded = gson.fromJson(json, type);
-        if (loaded != null) {
-            customWords.addAll(loaded);
-        }
+        customWords = WordRepository.getInstance().getCustomWords();
         adapter.notifyDataSetChanged();
         updateEmptyState();
     }
 
-    private void saveCustomWords() {
-        String json = gson.toJson(customWords);
-        prefs.edit().putString(KEY_WORDS, json).apply();
+    private CustomWord getCustomWord(int position) {
+        return customWords.get(customWordIndex(position));
+    }
+
+    /**
+     * Newest words are listed first: the row's index in the repository's list
+     */
+    private int customWordIndex(int position) {
+        return customWords.size() - 1 - position;
     }
 
     private void addWord() {
@@ -139,17 +132,11 @@ public class AddWordsFragment extends Fragment {
         }
         Category selectedCategory = categories.get(selectedIndex);
 
-        CustomWord customWord = new CustomWord(word, selectedCategory.getId(), selectedCategory.getName());
-        customWords.add(0, customWord);
+        // Add to WordRepository for game use; it also saves the word
+        WordRepository.getInstance().addCustomWord(word, selectedCategory);
         adapter.notifyItemInserted(0);
         myWordsRecyclerView.scrollToPosition(0);
 
-        // Add to WordRepository for game use
-        WordRepository.getInstance().addCustomWord(word, selectedCategory.getId());
-
-        // Save to SharedPreferences
-        saveCustomWords();
-
         // Clear input
         wordInput.setText("");
 
@@ -159,9 +146,8 @@ public class AddWordsFragment extends Fragment {
 
     private void deleteWord(int position) {
         if (position >= 0 && position < customWords.size()) {
-            customWords.remove(position);
+            WordRepository.getInstance().deleteCustomWord(customWordIndex(position));
             adapter.notifyItemRemoved(position);
-            saveCustomWords();
             updateEmptyState();
         }
     }
@@ -176,23 +162,6 @@ public class AddWordsFragment extends Fragment {
         }
     }
 
-    /**
-     * Simple class to hold custom word data
-     */
-    public static class CustomWord {
-        public String word;
-        public String categoryId;
-        public String categoryName;
-
-        public CustomWord() {} // Required for Gson
-
-        public CustomWord(String word, String categoryId, String categoryName) {
-            this.word = word;
-            this.categoryId = categoryId;
-            this.categoryName = categoryName;
-        }
-    }
-
     /**
      * Inner adapter class for custom words
      */
@@ -208,9 +177,9 @@ public class AddWordsFragment extends Fragment {
 
         @Override
         public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-            CustomWord word = customWords.get(position);
-            holder.wordText.setText(word.word);
-            holder.categoryText.setText(word.categoryName);
+            CustomWord word = getCustomWord(position);
+            holder.wordText.setText(word.getWord());
+            holder.categoryText.setText(word.getCategoryName());
             holder.deleteButton.setOnClickListener(v -> deleteWord(holder.getAdapterPosition()));
         }
 
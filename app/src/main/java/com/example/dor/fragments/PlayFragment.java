@@ -5,20 +5,27 @@ import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.NumberPicker;
+import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.appcompat.app.AlertDialog;
 import androidx.cardview.widget.CardView;
 import androidx.fragment.app.Fragment;
 
 import com.example.dor.R;
 import com.example.dor.SetupActivity;
+import com.example.dor.utils.GameManager;
 
 /**
  * Fragment for starting the game flow - player count selection
  */
 public class PlayFragment extends Fragment {
 
+    private static final int MIN_TEAM_SIZE = 2;
+    private static final int MAX_TEAM_SIZE = 4;
+
     @Nullable
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container, @Nullable Bundle savedInstanceState) {
@@ -34,12 +41,52 @@ public class PlayFragment extends Fragment {
         view.findViewById(R.id.card6Players).setOnClickListener(v -> startSetup(6));
         view.findViewById(R.id.card8Players).setOnClickListener(v -> startSetup(8));
         view.findViewById(R.id.card10Players).setOnClickListener(v -> startSetup(10));
+        view.findViewById(R.id.cardLargeParty).setOnClickListener(v -> showLargePartyDialog());
 
         // Add ripple effect animation
         addCardAnimation(view.findViewById(R.id.card4Players));
         addCardAnimation(view.findViewById(R.id.card6Players));
         addCardAnimation(view.findViewById(R.id.card8Players));
         addCardAnimation(view.findViewById(R.id.card10Players));
+        addCardAnimation(view.findViewById(R.id.cardLargeParty));
+    }
+
+    /**
+     * Pick a number of teams and a team size, up to the largest party the
+     * table can seat
+     */
+    private void showLargePartyDialog() {
+        View dialogView = getLayoutInflater().inflate(R.layout.dialog_large_party, null);
+        NumberPicker teamCountPicker = dialogView.findViewById(R.id.teamCountPicker);
+        NumberPicker teamSizePicker = dialogView.findViewById(R.id.teamSizePicker);
+        TextView totalText = dialogView.findViewById(R.id.partyTotalText);
+
+        teamSizePicker.setMinValue(MIN_TEAM_SIZE);
+        teamSizePicker.setMaxValue(MAX_TEAM_SIZE);
+        teamSizePicker.setValue(3);
+        teamCountPicker.setMinValue(2);
+        teamCountPicker.setMaxValue(GameManager.MAX_PLAYERS / teamSizePicker.getValue());
+        teamCountPicker.setValue(5);
+
+        Runnable updateTotal = () -> {
+            // Bigger teams leave room for fewer of them
+            teamCountPicker.setMaxValue(GameManager.MAX_PLAYERS / teamSizePicker.getValue());
+            totalText.setText(getString(R.string.large_party_total,
+                    teamCountPicker.getValue() * teamSizePicker.getValue(), teamCountPicker.getValue()));
+        };
+        teamCountPicker.setOnValueChangedListener((picker, oldValue, newValue) -> updateTotal.run());
+        teamSizePicker.setOnValueChangedListener((picker, oldValue, newValue) -> updateTotal.run());
+        updateTotal.run();
+
+        AlertDialog dialog = new AlertDialog.Builder(requireContext(), R.style.PauseDialogTheme)
+                .setView(dialogView)
+                .create();
+        dialogView.findViewById(R.id.startPartyButton).setOnClickListener(v -> {
+            dialog.dismiss();
+            int teamSize = teamSizePicker.getValue();
+            startSetup(teamCountPicker.getValue() * teamSize, teamSize);
+        });
+        dialog.show();
     }
 
     private void addCardAnimation(CardView card) {
@@ -58,8 +105,13 @@ public class PlayFragment extends Fragment {
     }
 
     private void startSetup(int playerCount) {
+        startSetup(playerCount, MIN_TEAM_SIZE);
+    }
+
+    private void startSetup(int playerCount, int playersPerTeam) {
         Intent intent = new Intent(requireContext(), SetupActivity.class);
-        intent.putExtra("playerCount", playerCount);
+        intent.putExtra(SetupActivity.EXTRA_PLAYER_COUNT, playerCount);
+        intent.putExtra(SetupActivity.EXTRA_PLAYERS_PER_TEAM, playersPerTeam);
         startActivity(intent);
     }
 }
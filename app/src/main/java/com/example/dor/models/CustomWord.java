@@ -0,0 +1,53 @@
+package com.example.dor.models;
+
+/**
+ * Model class representing a word added by the user
+ */
+public class CustomWord {
+    private long id;
+    private String word;
+    private String categoryId;
+    private String categoryName;
+
+    public CustomWord() {
+    }
+
+    public CustomWord(long id, String word, String categoryId, String categoryName) {
+        this.id = id;
+        this.word = word;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(String categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+}
@@ -1,22 +1,27 @@
 package com.example.dor.models;
 
+import com.example.dor.engine.GameRules;
+
 /**
  * Enum representing game modes
  */
 public enum GameMode {
-    QUICK(90000, 25000, 15000, 5000),      // 1:30 total, 25s bomb, 15s penalty, 5s skip cooldown
-    PROFESSIONAL(165000, 40000, 15000, 5000); // 2:45 total, 40s bomb, 15s penalty, 5s skip cooldown
+    QUICK(90000, 25000, 15000, 5000, 4, 2, 1),        // 1:30 total, 25s bomb, 15s penalty, 5s skip cooldown, mostly easy words
+    PROFESSIONAL(165000, 40000, 15000, 5000, 1, 2, 3); // 2:45 total, 40s bomb, 15s penalty, 5s skip cooldown, mostly hard words
 
     private final long teamTimeMillis;
     private final long bombTimeMillis;
     private final long penaltyMillis;
     private final long skipCooldownMillis;
+    private final double[] difficultyWeights; // Relative per-word weight of easy, medium, hard
 
-    GameMode(long teamTimeMillis, long bombTimeMillis, long penaltyMillis, long skipCooldownMillis) {
+    GameMode(long teamTimeMillis, long bombTimeMillis, long penaltyMillis, long skipCooldownMillis,
+             double easyWeight, double mediumWeight, double hardWeight) {
         this.teamTimeMillis = teamTimeMillis;
         this.bombTimeMillis = bombTimeMillis;
         this.penaltyMillis = penaltyMillis;
         this.skipCooldownMillis = skipCooldownMillis;
+        this.difficultyWeights = new double[]{easyWeight, mediumWeight, hardWeight};
     }
 
     public long getTeamTimeMillis() {
@@ -34,4 +39,12 @@ public enum GameMode {
     public long getSkipCooldownMillis() {
         return skipCooldownMillis;
     }
+
+    public double[] getDifficultyWeights() {
+        return difficultyWeights.clone();
+    }
+
+    public GameRules getRules() {
+        return new GameRules(teamTimeMillis, bombTimeMillis, penaltyMillis, skipCooldownMillis);
+    }
 }
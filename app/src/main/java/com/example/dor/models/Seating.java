@@ -0,0 +1,110 @@
+package com.example.dor.models;
+
+import java.util.List;
+
+/**
+ * Who sits where around the table.
+ *
+ * Seats are numbered in turn order: the first player of every team, then the
+ * second player of every team, and so on, so seat = player * teamCount + team,
+ * the same numbering the game log uses. Each seat's team, player, name and
+ * color are worked out once here, so code that runs every turn reads them by
+ * seat instead of matching player names.
+ */
+public final class Seating {
+
+    private final int teamCount;
+    private final int playersPerTeam;
+    private final int[] teams;
+    private final int[] players;
+    private final String[] names;
+    private final int[] colors;
+    private final int[] teamColors;
+
+    /**
+     * @param playersPerTeam players at the table per team; a team with fewer
+     *                       leaves its extra seats without a name
+     */
+    public Seating(List<Team> teamList, int playersPerTeam) {
+        this.teamCount = teamList.size();
+        this.playersPerTeam = playersPerTeam;
+        int seatCount = teamCount * playersPerTeam;
+        teams = new int[seatCount];
+        players = new int[seatCount];
+        names = new String[seatCount];
+        colors = new int[seatCount];
+        teamColors = new int[teamCount];
+
+        for (int team = 0; team < teamCount; team++) {
+            teamColors[team] = parseColor(teamList.get(team).getColor());
+        }
+        for (int seat = 0; seat < seatCount; seat++) {
+            int team = seat % teamCount;
+            int player = seat / teamCount;
+            Player p = teamList.get(team).getPlayer(player);
+            teams[seat] = team;
+            players[seat] = player;
+            names[seat] = p != null ? p.getName() : "";
+            colors[seat] = teamColors[team];
+        }
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public int getPlayersPerTeam() {
+        return playersPerTeam;
+    }
+
+    public int seatOf(int team, int player) {
+        return player * teamCount + team;
+    }
+
+    public int getTeam(int seat) {
+        return teams[seat];
+    }
+
+    /**
+     * The seat's player within its team
+     */
+    public int getPlayer(int seat) {
+        return players[seat];
+    }
+
+    public String getName(int seat) {
+        return names[seat];
+    }
+
+    /**
+     * The seat's team color as an ARGB int
+     */
+    public int getColor(int seat) {
+        return colors[seat];
+    }
+
+    public int getTeamColor(int team) {
+        return teamColors[team];
+    }
+
+    /**
+     * Parse a "#RRGGBB" or "#AARRGGBB" color the way android.graphics.Color
+     * does, without needing the framework
+     */
+    public static int parseColor(String color) {
+        if (color == null || color.length() < 7 || color.charAt(0) != '#') {
+            throw new IllegalArgumentException("Unknown color " + color);
+        }
+        long value = Long.parseLong(color.substring(1), 16);
+        if (color.length() == 7) {
+            value |= 0xFF000000L;
+        } else if (color.length() != 9) {
+            throw new IllegalArgumentException("Unknown color " + color);
+        }
+        return (int) value;
+    }
+}
@@ -12,7 +12,7 @@ public class Team {
     private List<Player> players;
     private long remainingTimeMillis;
     private boolean eliminated;
-    private List<GameEvent> gameEvents;
+    private final TeamEvents events;
 
     public Team(int id, String color, long initialTimeMillis) {
         this.id = id;
@@ -20,7 +20,7 @@ public class Team {
         this.players = new ArrayList<>();
         this.remainingTimeMillis = initialTimeMillis;
         this.eliminated = false;
-        this.gameEvents = new ArrayList<>();
+        this.events = new TeamEvents();
     }
 
     public int getId() {
@@ -58,8 +58,11 @@ public class Team {
         subtractTime(penaltyMillis);
     }
 
+    /**
+     * Set once, by the game, when the team goes out
+     */
     public boolean isEliminated() {
-        return eliminated || remainingTimeMillis <= 0;
+        return eliminated;
     }
 
     public void setEliminated(boolean eliminated) {
@@ -73,15 +76,10 @@ public class Team {
         return null;
     }
 
-    public void addGameEvent(GameEvent event) {
-        gameEvents.add(event);
-    }
-
-    public List<GameEvent> getGameEvents() {
-        return gameEvents;
-    }
-
-    public void clearGameEvents() {
-        gameEvents.clear();
+    /**
+     * Words guessed and bombs exploded so far, with running totals
+     */
+    public TeamEvents getEvents() {
+        return events;
     }
 }
@@ -0,0 +1,167 @@
+package com.example.dor.models;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * What a team did during a game: every word it guessed and every bomb that
+ * went off in its hands.
+ *
+ * Events are stored column by column in primitive arrays, one slot per event
+ * and no object per event, and the words are kept as word index ids. The
+ * totals shown in the elimination summary are updated as each event is
+ * added, so reading them never walks the events.
+ */
+public class TeamEvents {
+
+    public static final byte WORD_GUESSED = 1;
+    public static final byte BOMB_EXPLODED = 2;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int[] wordIds = new int[INITIAL_CAPACITY];
+    private long[] timeSpentMillis = new long[INITIAL_CAPACITY];
+    private long[] penaltyMillis = new long[INITIAL_CAPACITY];
+    private int size;
+
+    // Running totals
+    private int wordsGuessed;
+    private int bombsExploded;
+    private long totalGuessMillis;
+    private long maxGuessMillis;
+    private long totalPenaltyMillis;
+
+    /**
+     * @param wordId the word's index id, -1 if unknown
+     */
+    public void addWordGuessed(int wordId, long timeSpentMillis) {
+        add(WORD_GUESSED, wordId, timeSpentMillis, 0);
+        wordsGuessed++;
+        totalGuessMillis += timeSpentMillis;
+        maxGuessMillis = Math.max(maxGuessMillis, timeSpentMillis);
+    }
+
+    /**
+     * @param wordId the word being explained when the bomb went off, -1 if unknown
+     */
+    public void addBombExploded(int wordId, long timeSpentMillis, long penaltyMillis) {
+        add(BOMB_EXPLODED, wordId, timeSpentMillis, penaltyMillis);
+        bombsExploded++;
+        totalPenaltyMillis += penaltyMillis;
+    }
+
+    private void add(byte type, int wordId, long timeSpent, long penalty) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            wordIds = Arrays.copyOf(wordIds, capacity);
+            timeSpentMillis = Arrays.copyOf(timeSpentMillis, capacity);
+            penaltyMillis = Arrays.copyOf(penaltyMillis, capacity);
+        }
+        types[size] = type;
+        wordIds[size] = wordId;
+        timeSpentMillis[size] = timeSpent;
+        penaltyMillis[size] = penalty;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@link #WORD_GUESSED} or {@link #BOMB_EXPLODED}
+     */
+    public byte getType(int index) {
+        return types[index];
+    }
+
+    public int getWordId(int index) {
+        return wordIds[index];
+    }
+
+    public long getTimeSpentMillis(int index) {
+        return timeSpentMillis[index];
+    }
+
+    /**
+     * Penalty applied, only for explosions
+     */
+    public long getPenaltyMillis(int index) {
+        return penaltyMillis[index];
+    }
+
+    public int getWordsGuessed() {
+        return wordsGuessed;
+    }
+
+    public int getBombsExploded() {
+        return bombsExploded;
+    }
+
+    /**
+     * Mean time to guess a word, 0 before the first guess
+     */
+    public long getAverageGuessMillis() {
+        return wordsGuessed > 0 ? totalGuessMillis / wordsGuessed : 0;
+    }
+
+    public long getMaxGuessMillis() {
+        return maxGuessMillis;
+    }
+
+    public long getTotalPenaltyMillis() {
+        return totalPenaltyMillis;
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeByte(types[i]);
+            out.writeInt(wordIds[i]);
+            out.writeLong(timeSpentMillis[i]);
+            out.writeLong(penaltyMillis[i]);
+        }
+    }
+
+    /**
+     * Replace the events with ones written by {@link #writeTo(DataOutput)}
+     */
+    public void readFrom(DataInput in) throws IOException {
+        clear();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Bad event count " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            byte type = in.readByte();
+            int wordId = in.readInt();
+            long timeSpent = in.readLong();
+            long penalty = in.readLong();
+            if (type == BOMB_EXPLODED) {
+                addBombExploded(wordId, timeSpent, penalty);
+            } else {
+                addWordGuessed(wordId, timeSpent);
+            }
+        }
+    }
+
+    /**
+     * Forget every event, keeping the arrays for the next game
+     */
+    public void clear() {
+        size = 0;
+        wordsGuessed = 0;
+        bombsExploded = 0;
+        totalGuessMillis = 0;
+        maxGuessMillis = 0;
+        totalPenaltyMillis = 0;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.dor.models;
+
+import java.util.Locale;
+
+/**
+ * Team colors for any number of teams.
+ *
+ * Up to five teams get the hand-picked colors the game always had. Larger
+ * parties get colors spread evenly around the hue circle of the OKLCH color
+ * space, where equal steps look about equally different, alternating between
+ * two lightness levels so neighbouring teams differ in brightness too. Every
+ * color is dark enough for white text on top of it.
+ */
+public final class TeamPalette {
+
+    // Dark & Visible on white background
+    private static final String[] CLASSIC = {
+            "#B71C1C", // Deep Red
+            "#0D47A1", // Deep Blue
+            "#1B5E20", // Deep Green
+            "#E65100", // Deep Orange
+            "#4A148C"  // Deep Purple
+    };
+
+    private static final double[] LIGHTNESS = {0.46, 0.56};
+    private static final double MAX_CHROMA = 0.17;
+    // Starts the hue circle at red, like the classic colors
+    private static final double FIRST_HUE = 25;
+
+    private TeamPalette() {
+    }
+
+    /**
+     * @return one "#RRGGBB" color per team
+     */
+    public static String[] generate(int teamCount) {
+        if (teamCount <= CLASSIC.length) {
+            String[] colors = new String[teamCount];
+            System.arraycopy(CLASSIC, 0, colors, 0, teamCount);
+            return colors;
+        }
+        String[] colors = new String[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            double hue = FIRST_HUE + 360.0 * i / teamCount;
+            double lightness = LIGHTNESS[i % LIGHTNESS.length];
+            colors[i] = toHex(oklchToRgb(lightness, hue));
+        }
+        return colors;
+    }
+
+    /**
+     * The most saturated in-gamut sRGB color for a lightness and hue, as
+     * 0-255 channels
+     */
+    static int[] oklchToRgb(double lightness, double hueDegrees) {
+        double hue = Math.toRadians(hueDegrees);
+        for (double chroma = MAX_CHROMA; chroma > 0; chroma -= 0.005) {
+            double[] rgb = oklabToLinearRgb(lightness, chroma * Math.cos(hue), chroma * Math.sin(hue));
+            if (inGamut(rgb)) {
+                return toSrgb(rgb);
+            }
+        }
+        return toSrgb(oklabToLinearRgb(lightness, 0, 0));
+    }
+
+    static double[] oklabToLinearRgb(double lightness, double a, double b) {
+        double l = cube(lightness + 0.3963377774 * a + 0.2158037573 * b);
+        double m = cube(lightness - 0.1055613458 * a - 0.0638541728 * b);
+        double s = cube(lightness - 0.0894841775 * a - 1.2914855480 * b);
+        return new double[]{
+                4.0767416621 * l - 3.3077115913 * m + 0.2309699292 * s,
+                -1.2684380046 * l + 2.6097574011 * m - 0.3413193965 * s,
+                -0.0041960863 * l - 0.7034186147 * m + 1.7076147010 * s
+        };
+    }
+
+    /**
+     * Convert an ARGB color to OKLab: {lightness, a, b}
+     */
+    static double[] toOklab(int color) {
+        double r = toLinear((color >> 16) & 0xFF);
+        double g = toLinear((color >> 8) & 0xFF);
+        double b = toLinear(color & 0xFF);
+        double l = Math.cbrt(0.4122214708 * r + 0.5363325363 * g + 0.0514459929 * b);
+        double m = Math.cbrt(0.2119034982 * r + 0.6806995451 * g + 0.1073969566 * b);
+        double s = Math.cbrt(0.0883024619 * r + 0.2817188376 * g + 0.6299787005 * b);
+        return new double[]{
+                0.2104542553 * l + 0.7936177850 * m - 0.0040720468 * s,
+                1.9779984951 * l - 2.4285922050 * m + 0.4505937099 * s,
+                0.0259040371 * l + 0.7827717662 * m - 0.8086757660 * s
+        };
+    }
+
+    /**
+     * WCAG relative luminance of an ARGB color, 0 for black to 1 for white
+     */
+    static double luminance(int color) {
+        return 0.2126 * toLinear((color >> 16) & 0xFF)
+                + 0.7152 * toLinear((color >> 8) & 0xFF)
+                + 0.0722 * toLinear(color & 0xFF);
+    }
+
+    private static double cube(double x) {
+        return x * x * x;
+    }
+
+    private static boolean inGamut(double[] rgb) {
+        for (double channel : rgb) {
+            if (channel < 0 || channel > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double toLinear(int channel) {
+        double c = channel / 255.0;
+        return c <= 0.04045 ? c / 12.92 : Math.pow((c + 0.055) / 1.055, 2.4);
+    }
+
+    private static int[] toSrgb(double[] linear) {
+        int[] rgb = new int[3];
+        for (int i = 0; i < 3; i++) {
+            double c = Math.max(0, Math.min(1, linear[i]));
+            c = c <= 0.0031308 ? 12.92 * c : 1.055 * Math.pow(c, 1 / 2.4) - 0.055;
+            rgb[i] = (int) Math.round(c * 255);
+        }
+        return rgb;
+    }
+
+    private static String toHex(int[] rgb) {
+        return String.format(Locale.US, "#%02X%02X%02X", rgb[0], rgb[1], rgb[2]);
+    }
+}
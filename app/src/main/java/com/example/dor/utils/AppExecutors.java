@@ -0,0 +1,39 @@
+package com.example.dor.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shared executors for work that must stay off the main thread
+ */
+public final class AppExecutors {
+
+    // One background thread keeps disk work ordered (word bank first, then sounds)
+    private static final ExecutorService IO = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, "dor-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+    private static final Executor MAIN = MAIN_HANDLER::post;
+
+    private AppExecutors() {
+    }
+
+    public static Executor io() {
+        return IO;
+    }
+
+    public static Executor mainThread() {
+        return MAIN;
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.dor.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Single monotonic clock for a game round.
+ *
+ * Owns every deadline of a turn - the bomb, the current team's time budget,
+ * the skip cooldown and the once-a-second tick - measured in game time, which
+ * only advances while the clock is running. Pausing freezes game time, so
+ * resume continues every countdown exactly where it stopped.
+ *
+ * Instead of polling, the clock sleeps until the next moment something
+ * observable happens: a countdown reaching a whole second, a deadline, or a
+ * tick. Time comes from {@link SystemClock#elapsedRealtimeNanos()} and wakeups
+ * are posted to one main-thread {@link Handler}.
+ */
+public class GameClock {
+
+    public static final long SECOND_NANOS = 1_000_000_000L;
+    private static final long MILLI_NANOS = 1_000_000L;
+
+    /**
+     * Callbacks, delivered on the main thread
+     */
+    public interface Listener {
+        /** The displayed whole seconds of at least one countdown changed */
+        void onSecondsChanged();
+
+        /** Once per second while ticks are on, starting when they are turned on */
+        void onTick();
+
+        void onSkipReady();
+
+        void onBombExploded();
+
+        void onTeamTimeUp();
+    }
+
+    /**
+     * Runs the clock's wakeup at a later time; replaced in tests
+     */
+    interface Scheduler {
+        void schedule(Runnable task, long delayNanos);
+
+        void cancel(Runnable task);
+    }
+
+    private final Listener listener;
+    private final LongSupplier nanoTime;
+    private final Scheduler scheduler;
+    private final Runnable wakeup = this::onWakeup;
+
+    // Game time: accumulated while running, frozen while paused
+    private long baseNanos;
+    private long resumedAt;
+    private boolean running;
+
+    // Deadlines in game time; a countdown is off while its flag is false
+    private boolean bombActive;
+    private long bombDeadline;
+    private boolean teamActive;
+    private long teamDeadline;
+    private boolean skipActive;
+    private long skipDeadline;
+    private boolean ticking;
+    private long nextTick;
+
+    // Last whole seconds reported, to notify only on change
+    private long bombSeconds = -1;
+    private long teamSeconds = -1;
+    private long skipSeconds = -1;
+
+    private long wakeups;
+
+    public GameClock(Listener listener) {
+        this(listener, SystemClock::elapsedRealtimeNanos, new HandlerScheduler());
+    }
+
+    GameClock(Listener listener, LongSupplier nanoTime, Scheduler scheduler) {
+        this.listener = listener;
+        this.nanoTime = nanoTime;
+        this.scheduler = scheduler;
+        this.running = true;
+        this.resumedAt = nanoTime.getAsLong();
+    }
+
+    public void startBomb(long millis) {
+        bombActive = true;
+        bombDeadline = now() + millis * MILLI_NANOS;
+        bombSeconds = -1;
+        reschedule();
+    }
+
+    public void stopBomb() {
+        bombActive = false;
+        reschedule();
+    }
+
+    public boolean isBombRunning() {
+        return bombActive;
+    }
+
+    public long getBombRemainingMillis() {
+        return bombActive ? remainingMillis(bombDeadline) : 0;
+    }
+
+    /**
+     * Start spending the current team's time budget
+     */
+    public void startTeam(long budgetMillis) {
+        teamActive = true;
+        teamDeadline = now() + budgetMillis * MILLI_NANOS;
+        teamSeconds = -1;
+        reschedule();
+    }
+
+    /**
+     * Stop spending team time
+     *
+     * @return the team's budget left, which the caller stores back on the team
+     */
+    public long stopTeam() {
+        long remaining = getTeamRemainingMillis();
+        teamActive = false;
+        reschedule();
+        return remaining;
+    }
+
+    public boolean isTeamRunning() {
+        return teamActive;
+    }
+
+    public long getTeamRemainingMillis() {
+        return teamActive ? remainingMillis(teamDeadline) : 0;
+    }
+
+    public void startSkipCooldown(long millis) {
+        skipActive = true;
+        skipDeadline = now() + millis * MILLI_NANOS;
+        skipSeconds = -1;
+        reschedule();
+    }
+
+    public boolean isSkipCoolingDown() {
+        return skipActive;
+    }
+
+    public long getSkipRemainingMillis() {
+        return skipActive ? remainingMillis(skipDeadline) : 0;
+    }
+
+    /**
+     * Tick now and then every second of game time
+     */
+    public void startTicks() {
+        ticking = true;
+        nextTick = now();
+        reschedule();
+    }
+
+    public void stopTicks() {
+        ticking = false;
+        reschedule();
+    }
+
+    /**
+     * Turn off every countdown and the ticks. Pause state is kept.
+     */
+    public void stopAll() {
+        bombActive = false;
+        teamActive = false;
+        skipActive = false;
+        ticking = false;
+        reschedule();
+    }
+
+    public void pause() {
+        if (running) {
+            baseNanos = now();
+            running = false;
+            scheduler.cancel(wakeup);
+        }
+    }
+
+    public void resume() {
+        if (!running) {
+            resumedAt = nanoTime.getAsLong();
+            running = true;
+            reschedule();
+        }
+    }
+
+    public boolean isPaused() {
+        return !running;
+    }
+
+    /**
+     * Continue a restored game from its game time. Call before starting any
+     * countdown.
+     */
+    public void setElapsedMillis(long millis) {
+        baseNanos = millis * MILLI_NANOS;
+        resumedAt = nanoTime.getAsLong();
+    }
+
+    /**
+     * Game time since the clock was created, excluding pauses
+     */
+    public long getElapsedMillis() {
+        return now() / MILLI_NANOS;
+    }
+
+    public long getWakeups() {
+        return wakeups;
+    }
+
+    /**
+     * Wakeups per minute of game time, for checking how often the clock
+     * gets the main thread out of idle
+     */
+    public double getWakeupsPerMinute() {
+        long elapsed = now();
+        return elapsed > 0 ? wakeups * 60.0 * SECOND_NANOS / elapsed : 0;
+    }
+
+    private long now() {
+        return running ? baseNanos + nanoTime.getAsLong() - resumedAt : baseNanos;
+    }
+
+    private long remainingMillis(long deadline) {
+        long remaining = deadline - now();
+        return remaining > 0 ? (remaining + MILLI_NANOS - 1) / MILLI_NANOS : 0;
+    }
+
+    private void onWakeup() {
+        wakeups++;
+        long now = now();
+
+        if (secondsChanged(now)) {
+            listener.onSecondsChanged();
+        }
+
+        if (ticking && now >= nextTick) {
+            // Drop ticks that were missed rather than firing them in a burst
+            nextTick += ((now - nextTick) / SECOND_NANOS + 1) * SECOND_NANOS;
+            listener.onTick();
+        }
+
+        if (skipActive && now >= skipDeadline) {
+            skipActive = false;
+            listener.onSkipReady();
+        }
+
+        // At most one terminal event; the listener normally stops the round
+        boolean bombDue = bombActive && now >= bombDeadline;
+        boolean teamDue = teamActive && now >= teamDeadline;
+        if (teamDue && (!bombDue || teamDeadline <= bombDeadline)) {
+            teamActive = false;
+            listener.onTeamTimeUp();
+        } else if (bombDue) {
+            bombActive = false;
+            listener.onBombExploded();
+        }
+
+        reschedule();
+    }
+
+    private boolean secondsChanged(long now) {
+        long bomb = bombActive ? wholeSeconds(bombDeadline - now) : -1;
+        long team = teamActive ? wholeSeconds(teamDeadline - now) : -1;
+        long skip = skipActive ? wholeSeconds(skipDeadline - now) : -1;
+        boolean changed = bomb != bombSeconds || team != teamSeconds || skip != skipSeconds;
+        bombSeconds = bomb;
+        teamSeconds = team;
+        skipSeconds = skip;
+        return changed;
+    }
+
+    /**
+     * Seconds shown for a countdown: rounded up, so it reads 1 during the last
+     * second and 0 exactly at the deadline
+     */
+    private static long wholeSeconds(long remainingNanos) {
+        return remainingNanos > 0 ? (remainingNanos + SECOND_NANOS - 1) / SECOND_NANOS : 0;
+    }
+
+    private void reschedule() {
+        scheduler.cancel(wakeup);
+        if (!running) {
+            return;
+        }
+
+        long now = now();
+        long next = Long.MAX_VALUE;
+        if (bombActive) {
+            next = Math.min(next, untilBoundary(bombDeadline - now));
+        }
+        if (teamActive) {
+            next = Math.min(next, untilBoundary(teamDeadline - now));
+        }
+        if (skipActive) {
+            next = Math.min(next, untilBoundary(skipDeadline - now));
+        }
+        if (ticking) {
+            next = Math.min(next, Math.max(0, nextTick - now));
+        }
+        if (next != Long.MAX_VALUE) {
+            scheduler.schedule(wakeup, next);
+        }
+    }
+
+    /**
+     * Time until a countdown next shows a different whole second, or reaches
+     * its deadline
+     */
+    private static long untilBoundary(long remainingNanos) {
+        if (remainingNanos <= 0) {
+            return 0;
+        }
+        long partial = remainingNanos % SECOND_NANOS;
+        return partial != 0 ? partial : SECOND_NANOS;
+    }
+
+    private static final class HandlerScheduler implements Scheduler {
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public void schedule(Runnable task, long delayNanos) {
+            // Round up so a wakeup never lands before its boundary
+            handler.postDelayed(task, (delayNanos + MILLI_NANOS - 1) / MILLI_NANOS);
+        }
+
+        @Override
+        public void cancel(Runnable task) {
+            handler.removeCallbacks(task);
+        }
+    }
+}
@@ -1,35 +1,51 @@
 package com.example.dor.utils;
 
 import com.example.dor.data.WordRepository;
+import com.example.dor.engine.GameEngine;
+import com.example.dor.engine.GameLog;
+import com.example.dor.engine.GameReplay;
 import com.example.dor.models.GameMode;
 import com.example.dor.models.Player;
+import com.example.dor.models.Seating;
 import com.example.dor.models.Team;
+import com.example.dor.models.TeamEvents;
+import com.example.dor.models.TeamPalette;
 import com.example.dor.models.Word;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Manages the game state and logic
+ * Holds the players, teams and mode of a game and connects them to the
+ * {@link GameEngine} that runs the rules
  */
 public class GameManager {
     private static GameManager instance;
 
     private List<Team> teams;
     private GameMode gameMode;
-    private int currentTeamIndex;
-    private int currentPlayerIndexInTeam; // 0 or 1 (which player of each team is playing)
+    private GameEngine engine; // turn order, times and eliminations while a game is played
+    private GameLog gameLog; // everything that happened in the last game started
     private Word currentWord;
+    private int currentWordId = -1; // the current word's index id, as logged
+    private Seating seating; // built from the teams on first use
     private WordRepository wordRepository;
 
-    // Team colors - Dark & Visible on white background
-    private static final String[] TEAM_COLORS = {
-            "#B71C1C", // Deep Red
-            "#0D47A1", // Deep Blue
-            "#1B5E20", // Deep Green
-            "#E65100", // Deep Orange
-            "#4A148C"  // Deep Purple
-    };
+    private static final int DEFAULT_PLAYERS_PER_TEAM = 2;
+    // Largest party the table can seat
+    public static final int MAX_PLAYERS = 40;
+    private int playersPerTeam = DEFAULT_PLAYERS_PER_TEAM;
+
+    private static final int SESSION_MAGIC = 0x44534553; // "DSES"
+    private static final int SESSION_VERSION = 1;
+
+    // Word decks of a restored game, rebuilt once the word bank is loaded
+    private WordSession restoredWords;
 
     private GameManager() {
         teams = new ArrayList<>();
@@ -44,17 +60,28 @@ public class GameManager {
     }
 
     public void initializeGame(int playerCount, GameMode mode) {
+        initializeGame(playerCount, DEFAULT_PLAYERS_PER_TEAM, mode);
+    }
+
+    /**
+     * Set up teams of any size; setPlayerNames then seats the players in turn
+     * order
+     */
+    public void initializeGame(int playerCount, int playersPerTeam, GameMode mode) {
         this.gameMode = mode;
+        this.playersPerTeam = playersPerTeam;
         teams.clear();
 
-        int teamCount = playerCount / 2;
+        int teamCount = playerCount / playersPerTeam;
+        String[] colors = TeamPalette.generate(teamCount);
         for (int i = 0; i < teamCount; i++) {
-            Team team = new Team(i, TEAM_COLORS[i], mode.getTeamTimeMillis());
+            Team team = new Team(i, colors[i], mode.getTeamTimeMillis());
             teams.add(team);
         }
-
-        currentTeamIndex = 0;
-        currentPlayerIndexInTeam = 0;
+        engine = null;
+        gameLog = null;
+        restoredWords = null;
+        seating = null;
     }
 
     public void setPlayerNames(List<String> playerNames) {
@@ -72,12 +99,14 @@ public class GameManager {
             Player player = new Player(playerNames.get(i), teamIndex);
             teams.get(teamIndex).addPlayer(player);
         }
+        seating = null;
 
         android.util.Log.d("GameManager", "Set " + playerNames.size() + " player names across " + teamCount + " teams");
     }
 
     public void setGameMode(GameMode mode) {
         this.gameMode = mode;
+        wordRepository.setDifficultyWeights(mode.getDifficultyWeights());
         // Update team times
         for (Team team : teams) {
             team.setRemainingTimeMillis(mode.getTeamTimeMillis());
@@ -88,13 +117,213 @@ public class GameManager {
         return gameMode;
     }
 
+    public int getPlayersPerTeam() {
+        return playersPerTeam;
+    }
+
     public List<Team> getTeams() {
         return teams;
     }
 
+    /**
+     * Start play with the current teams and mode. The manager keeps the teams'
+     * times, eliminations and events in step with the engine and deals words,
+     * then passes every engine event on to the given listener.
+     */
+    public GameEngine startGame(GameEngine.Listener listener) {
+        engine = new GameEngine(gameMode.getRules(), teams.size(), playersPerTeam);
+        gameLog = new GameLog(engine.getRules(), teams.size(), playersPerTeam);
+        currentWord = null;
+        currentWordId = -1;
+        return resumeGame(listener);
+    }
+
+    /**
+     * Carry on with the game already in progress, such as one brought back by
+     * {@link #restoreSession(byte[])}, sending its events to a new listener
+     */
+    public GameEngine resumeGame(GameEngine.Listener listener) {
+        GameLog.Recorder recorder = new GameLog.Recorder(gameLog, engine, () -> currentWordId);
+        engine.setListener(new TeamSync(listener, recorder, null));
+        syncTeams();
+        return engine;
+    }
+
+    /**
+     * Everything needed to carry on the game after the process is killed:
+     * mode, teams, the engine's state, the teams' events, the current word,
+     * where the word decks stand, and the game log. Small and quick enough
+     * to take at every turn; see {@link #restoreSession(byte[])}.
+     *
+     * @return null if no game is being played
+     */
+    public byte[] saveSession() {
+        if (engine == null || gameLog == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(2048);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SESSION_MAGIC);
+            out.writeInt(SESSION_VERSION);
+            out.writeUTF(gameMode.name());
+            out.writeInt(teams.size());
+            for (Team team : teams) {
+                out.writeUTF(team.getColor());
+                out.writeInt(team.getPlayers().size());
+                for (Player player : team.getPlayers()) {
+                    out.writeUTF(player.getName());
+                }
+                team.getEvents().writeTo(out);
+            }
+            engine.writeState(out);
+            out.writeInt(currentWordId);
+
+            WordSession words = restoredWords != null ? restoredWords : new WordSession(
+                    wordRepository.getSelectedCategoryIds(), wordRepository.getSessionSeed(),
+                    wordRepository.getWordDraws(), wordRepository.isRecentWordsExhausted());
+            words.writeTo(out);
+
+            byte[] log = gameLog.toByteArray();
+            out.writeInt(log.length);
+            out.write(log);
+        } catch (IOException e) {
+            // Only writes to memory
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Bring back a game saved by {@link #saveSession()} in place of the
+     * current one. Its word decks are rebuilt by {@link #restoreWords()} once
+     * the word bank is loaded; then {@link #resumeGame} continues it.
+     *
+     * @return false if the data is missing or not a saved game
+     */
+    public boolean restoreSession(byte[] data) {
+        if (data == null) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != SESSION_MAGIC || in.readInt() != SESSION_VERSION) {
+                return false;
+            }
+            GameMode mode = GameMode.valueOf(in.readUTF());
+            int teamCount = in.readInt();
+            if (teamCount < 2 || teamCount > 64) {
+                throw new IOException("Bad team count " + teamCount);
+            }
+            List<Team> restoredTeams = new ArrayList<>(teamCount);
+            int restoredPlayersPerTeam = 1;
+            for (int i = 0; i < teamCount; i++) {
+                Team team = new Team(i, in.readUTF(), mode.getTeamTimeMillis());
+                int playerCount = in.readInt();
+                for (int p = 0; p < playerCount; p++) {
+                    team.addPlayer(new Player(in.readUTF(), i));
+                }
+                restoredPlayersPerTeam = Math.max(restoredPlayersPerTeam, playerCount);
+                team.getEvents().readFrom(in);
+                restoredTeams.add(team);
+            }
+            GameEngine restoredEngine = new GameEngine(mode.getRules(), teamCount, restoredPlayersPerTeam);
+            restoredEngine.readState(in);
+            int wordId = in.readInt();
+            WordSession words = WordSession.readFrom(in);
+
+            int logLength = in.readInt();
+            if (logLength < 0 || logLength > data.length) {
+                throw new IOException("Bad log length " + logLength);
+            }
+            byte[] log = new byte[logLength];
+            in.readFully(log);
+            GameLog restoredLog = GameLog.resume(log, logLength);
+
+            // Nothing changes until the whole snapshot has been read
+            gameMode = mode;
+            playersPerTeam = restoredPlayersPerTeam;
+            teams.clear();
+            teams.addAll(restoredTeams);
+            seating = null;
+            engine = restoredEngine;
+            gameLog = restoredLog;
+            currentWordId = wordId;
+            currentWord = null;
+            restoredWords = words;
+            syncTeams();
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Rebuild a restored game's word decks and current word. Needs the word
+     * bank the game was played with to be loaded.
+     */
+    public void restoreWords() {
+        WordSession words = restoredWords;
+        if (words == null) {
+            return;
+        }
+        restoredWords = null;
+        wordRepository.setDifficultyWeights(gameMode.getDifficultyWeights());
+        wordRepository.restoreGame(words.categoryIds, words.seed, words.draws, words.recentExhausted);
+        currentWord = wordRepository.getWord(currentWordId);
+    }
+
+    /**
+     * Whether a restored game still waits for {@link #restoreWords()}
+     */
+    public boolean isRestoringWords() {
+        return restoredWords != null;
+    }
+
+    /**
+     * Play the last game back from its log with the same teams. Words come
+     * from the log instead of being dealt, and nothing is logged or added to
+     * the teams' events. Drive the replay's clock with
+     * {@link GameReplay#advanceTo(long)}.
+     *
+     * @return null if there is no game to replay
+     */
+    public GameReplay startReplay(GameEngine.Listener listener) {
+        if (gameLog == null) {
+            return null;
+        }
+        GameReplay replay;
+        try {
+            replay = new GameReplay(gameLog.toByteArray(), gameLog.size());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+        if (replay.getEngine().getTeamCount() != teams.size()) {
+            return null;
+        }
+        engine = replay.getEngine();
+        engine.setListener(new TeamSync(listener, null, replay));
+        currentWord = null;
+        currentWordId = -1;
+        syncTeams();
+        return replay;
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Log of the last game started, or null
+     */
+    public GameLog getGameLog() {
+        return gameLog;
+    }
+
     public Team getCurrentTeam() {
-        if (currentTeamIndex >= 0 && currentTeamIndex < teams.size()) {
-            return teams.get(currentTeamIndex);
+        int index = getCurrentTeamIndex();
+        if (index >= 0 && index < teams.size()) {
+            return teams.get(index);
         }
         return null;
     }
@@ -102,51 +331,59 @@ public class GameManager {
     public Player getCurrentPlayer() {
         Team currentTeam = getCurrentTeam();
         if (currentTeam != null) {
-            return currentTeam.getPlayer(currentPlayerIndexInTeam);
+            return currentTeam.getPlayer(engine != null ? engine.getCurrentPlayer() : 0);
         }
         return null;
     }
 
     public String getCurrentPlayerName() {
-        Player player = getCurrentPlayer();
-        return player != null ? player.getName() : "";
+        return teams.isEmpty() ? "" : getSeating().getName(getCurrentSeat());
     }
 
     /**
      * Get the name of the next player in turn order
      */
     public String getNextPlayerName() {
-        // Find next non-eliminated team following the circular order
-        int nextTeamIndex = currentTeamIndex;
-        int nextPlayerIndex = currentPlayerIndexInTeam;
-        int count = 0;
-        int maxIterations = teams.size() * 2; // Maximum possible iterations
-
-        do {
-            nextTeamIndex = (nextTeamIndex + 1) % teams.size();
-
-            // If we've gone through all teams, move to next player index
-            if (nextTeamIndex == 0) {
-                nextPlayerIndex = (nextPlayerIndex + 1) % 2;
-            }
-            count++;
-        } while (teams.get(nextTeamIndex).isEliminated() && count < maxIterations);
+        if (engine == null || engine.getActiveTeamCount() == 0) {
+            return "";
+        }
+        return getSeating().getName(engine.getNextSeat());
+    }
 
-        if (!teams.get(nextTeamIndex).isEliminated()) {
-            Team nextTeam = teams.get(nextTeamIndex);
-            Player nextPlayer = nextTeam.getPlayer(nextPlayerIndex);
-            return nextPlayer != null ? nextPlayer.getName() : "";
+    /**
+     * Seats around the table with their teams, names and colors, in turn
+     * order. Rebuilt when the teams change.
+     */
+    public Seating getSeating() {
+        if (seating == null) {
+            seating = new Seating(teams, playersPerTeam);
         }
-        return "";
+        return seating;
+    }
+
+    /**
+     * Seat of the player holding the bomb, see {@link Seating}
+     */
+    public int getCurrentSeat() {
+        return engine != null ? engine.getCurrentSeat() : 0;
+    }
+
+    /**
+     * Seat of the player that gets the bomb next, -1 if none
+     */
+    public int getNextSeat() {
+        return engine != null && engine.getActiveTeamCount() > 0 ? engine.getNextSeat() : -1;
     }
 
     public Word nextWord() {
         currentWord = wordRepository.getNextWord();
+        currentWordId = wordRepository.getLastWordId();
         return currentWord;
     }
 
     public Word skipWord() {
         currentWord = wordRepository.skipWord();
+        currentWordId = wordRepository.getLastWordId();
         return currentWord;
     }
 
@@ -154,138 +391,213 @@ public class GameManager {
         return currentWord;
     }
 
-    public void moveToNextTeam() {
-        // Find next non-eliminated team
-        int startIndex = currentTeamIndex;
-        int startPlayerIndex = currentPlayerIndexInTeam;
+    /**
+     * Tracked by the engine as teams go out, so this and
+     * {@link #getWinner()} and {@link #getActiveTeamCount()} never rescan
+     * the teams
+     */
+    public boolean isGameOver() {
+        return engine != null && engine.isOver();
+    }
 
-        do {
-            currentTeamIndex = (currentTeamIndex + 1) % teams.size();
+    public Team getWinner() {
+        int winner = engine != null ? engine.getWinner() : -1;
+        return winner >= 0 ? teams.get(winner) : null;
+    }
 
-            // If we've gone through all teams, move to next player index
-            if (currentTeamIndex == 0) {
-                currentPlayerIndexInTeam = (currentPlayerIndexInTeam + 1) % 2;
-            }
-        } while (teams.get(currentTeamIndex).isEliminated() &&
-                 !(currentTeamIndex == startIndex && currentPlayerIndexInTeam == startPlayerIndex));
+    public int getActiveTeamCount() {
+        return engine != null ? engine.getActiveTeamCount() : teams.size();
     }
 
-    public void onBombExploded() {
-        Team currentTeam = getCurrentTeam();
-        if (currentTeam != null) {
-            currentTeam.applyPenalty(gameMode.getPenaltyMillis());
+    public void reset() {
+        teams.clear();
+        engine = null;
+        gameLog = null;
+        restoredWords = null;
+        seating = null;
+        currentWord = null;
+        currentWordId = -1;
+        wordRepository.reset();
+    }
 
-            // Check if team is eliminated
-            if (currentTeam.isEliminated()) {
-                currentTeam.setEliminated(true);
-            }
+    public int getCurrentTeamIndex() {
+        return engine != null ? engine.getCurrentTeam() : 0;
+    }
+
+    private void syncTeams() {
+        for (int i = 0; i < teams.size(); i++) {
+            syncTeam(i);
         }
-        // Don't move to next team - same player continues after explosion
     }
 
-    public void onWordGuessed() {
-        // Move to next team
-        moveToNextTeam();
+    /**
+     * Copy one team's time and elimination from the engine; only the team an
+     * event is about can have changed
+     */
+    private void syncTeam(int index) {
+        Team team = teams.get(index);
+        team.setRemainingTimeMillis(engine.getTeamRemainingMillis(index));
+        team.setEliminated(engine.isEliminated(index));
     }
 
-    public void updateTeamTime(long elapsedMillis) {
-        Team currentTeam = getCurrentTeam();
-        if (currentTeam != null) {
-            currentTeam.subtractTime(elapsedMillis);
 
-            if (currentTeam.getRemainingTimeMillis() <= 0) {
-                currentTeam.setEliminated(true);
+    /**
+     * The word decks' place in a game: its selection, seed and draws so far
+     */
+    private static final class WordSession {
+        final List<String> categoryIds;
+        final long seed;
+        final int draws;
+        final boolean recentExhausted;
+
+        WordSession(List<String> categoryIds, long seed, int draws, boolean recentExhausted) {
+            this.categoryIds = categoryIds;
+            this.seed = seed;
+            this.draws = draws;
+            this.recentExhausted = recentExhausted;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(categoryIds.size());
+            for (String categoryId : categoryIds) {
+                out.writeUTF(categoryId);
             }
+            out.writeLong(seed);
+            out.writeInt(draws);
+            out.writeBoolean(recentExhausted);
         }
-    }
 
-    public boolean isGameOver() {
-        int activeTeams = 0;
-        for (Team team : teams) {
-            if (!team.isEliminated()) {
-                activeTeams++;
+        static WordSession readFrom(DataInputStream in) throws IOException {
+            int count = in.readInt();
+            if (count < 0 || count > 1024) {
+                throw new IOException("Bad category count " + count);
+            }
+            List<String> categoryIds = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                categoryIds.add(in.readUTF());
+            }
+            long seed = in.readLong();
+            int draws = in.readInt();
+            if (draws < 0) {
+                throw new IOException("Bad draw count " + draws);
             }
+            return new WordSession(categoryIds, seed, draws, in.readBoolean());
         }
-        return activeTeams <= 1;
     }
 
-    public Team getWinner() {
-        for (Team team : teams) {
-            if (!team.isEliminated()) {
-                return team;
+    /**
+     * Applies engine events to the teams and words, logs them, then forwards
+     * them. When replaying, words come from the replay and nothing is logged.
+     */
+    private class TeamSync implements GameEngine.Listener {
+        private final GameEngine.Listener view;
+        private final GameEngine.Listener recorder;
+        private final GameReplay replay;
+
+        TeamSync(GameEngine.Listener view, GameEngine.Listener recorder, GameReplay replay) {
+            this.view = view;
+            this.recorder = recorder != null ? recorder : new GameEngine.Listener() {
+            };
+            this.replay = replay;
+        }
+
+        private void dealWord(boolean skipped) {
+            if (replay != null) {
+                currentWordId = replay.getWordId();
+                currentWord = wordRepository.getWord(currentWordId);
+            } else if (skipped) {
+                skipWord();
+            } else {
+                nextWord();
             }
         }
-        return null;
-    }
 
-    public int getActiveTeamCount() {
-        int count = 0;
-        for (Team team : teams) {
-            if (!team.isEliminated()) {
-                count++;
+        /**
+         * The team's events already hold the game being replayed
+         */
+        private TeamEvents eventsOf(int team) {
+            return replay == null && currentWord != null ? teams.get(team).getEvents() : null;
+        }
+
+        @Override
+        public void onTurnStarted(int team, int player) {
+            dealWord(false);
+            recorder.onTurnStarted(team, player);
+            view.onTurnStarted(team, player);
+        }
+
+        @Override
+        public void onWordGuessed(int team, long timeSpentMillis) {
+            TeamEvents events = eventsOf(team);
+            if (events != null) {
+                events.addWordGuessed(currentWordId, timeSpentMillis);
             }
+            syncTeam(team);
+            recorder.onWordGuessed(team, timeSpentMillis);
+            view.onWordGuessed(team, timeSpentMillis);
         }
-        return count;
-    }
 
-    public void startNewRound() {
-        currentPlayerIndexInTeam = (currentPlayerIndexInTeam + 1) % 2;
-    }
+        @Override
+        public void onTurnPassed(int team, int player) {
+            // No need to show the player's name mid-round, just the new word
+            dealWord(false);
+            recorder.onTurnPassed(team, player);
+            view.onTurnPassed(team, player);
+        }
 
-    public void reset() {
-        teams.clear();
-        currentTeamIndex = 0;
-        currentPlayerIndexInTeam = 0;
-        currentWord = null;
-        wordRepository.reset();
-    }
+        @Override
+        public void onWordSkipped(int team) {
+            dealWord(true);
+            recorder.onWordSkipped(team);
+            view.onWordSkipped(team);
+        }
 
-    /**
-     * Get ordered list of player names for circular seating arrangement
-     * Order: T1P1, T2P1, T3P1, T1P2, T2P2, T3P2 (for 3 teams)
-     */
-    public List<String> getCircularPlayerOrder() {
-        List<String> orderedPlayers = new ArrayList<>();
-        int teamCount = teams.size();
+        @Override
+        public void onSkipReady() {
+            recorder.onSkipReady();
+            view.onSkipReady();
+        }
 
-        // First player of each team
-        for (int t = 0; t < teamCount; t++) {
-            Player p = teams.get(t).getPlayer(0);
-            if (p != null) {
-                orderedPlayers.add(p.getName());
+        @Override
+        public void onBombExploded(int team, long timeSpentMillis, long penaltyMillis) {
+            TeamEvents events = eventsOf(team);
+            if (events != null) {
+                events.addBombExploded(currentWordId, timeSpentMillis, penaltyMillis);
             }
+            syncTeam(team);
+            recorder.onBombExploded(team, timeSpentMillis, penaltyMillis);
+            view.onBombExploded(team, timeSpentMillis, penaltyMillis);
         }
 
-        // Second player of each team
-        for (int t = 0; t < teamCount; t++) {
-            Player p = teams.get(t).getPlayer(1);
-            if (p != null) {
-                orderedPlayers.add(p.getName());
-            }
+        @Override
+        public void onTeamEliminated(int team) {
+            syncTeam(team);
+            recorder.onTeamEliminated(team);
+            view.onTeamEliminated(team);
         }
 
-        return orderedPlayers;
-    }
+        @Override
+        public void onWaitingForTurn(int team, int player) {
+            recorder.onWaitingForTurn(team, player);
+            view.onWaitingForTurn(team, player);
+        }
 
-    /**
-     * Get team color by player name
-     */
-    public String getTeamColorByPlayerName(String playerName) {
-        for (Team team : teams) {
-            for (Player player : team.getPlayers()) {
-                if (player.getName().equals(playerName)) {
-                    return team.getColor();
-                }
-            }
+        @Override
+        public void onGameOver(int winnerTeam) {
+            recorder.onGameOver(winnerTeam);
+            view.onGameOver(winnerTeam);
         }
-        return TEAM_COLORS[0];
-    }
 
-    public int getCurrentTeamIndex() {
-        return currentTeamIndex;
-    }
+        @Override
+        public void onPaused() {
+            recorder.onPaused();
+            view.onPaused();
+        }
 
-    public void setCurrentTeamIndex(int index) {
-        this.currentTeamIndex = index;
+        @Override
+        public void onResumed() {
+            recorder.onResumed();
+            view.onResumed();
+        }
     }
 }
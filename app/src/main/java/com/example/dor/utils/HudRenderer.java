@@ -0,0 +1,169 @@
+package com.example.dor.utils;
+
+/**
+ * Draws the in-game countdowns: the bomb, each team's time and the skip
+ * cooldown.
+ *
+ * A view is only touched when the whole seconds it shows change. Text is
+ * formatted with Persian digits into char buffers owned by the renderer and
+ * colors are plain ints, so a steady-state update allocates nothing.
+ */
+public class HudRenderer {
+
+    /**
+     * Something that displays a countdown, normally a TextView
+     */
+    public interface TextTarget {
+        /**
+         * Each target gets a buffer of its own, rewritten only just before
+         * its next setText, so it may keep the buffer instead of copying
+         * it, as TextView does
+         */
+        void setText(char[] text, int length);
+
+        void setTextColor(int color);
+    }
+
+    // Persian digits 0-9
+    private static final char[] DIGITS = {
+            '۰', '۱', '۲', '۳', '۴',
+            '۵', '۶', '۷', '۸', '۹'
+    };
+
+    private static final char[] BOMB_PREFIX = "💣 ".toCharArray();
+    private static final char[] SKIP_PREFIX = "رد کردن (".toCharArray();
+
+    static final int BOMB_RED = 0xFFF44336;
+    static final int BOMB_ORANGE = 0xFFFF9800;
+    static final int BOMB_YELLOW = 0xFFFDD835;
+
+    private static final long NOT_SHOWN = Long.MIN_VALUE;
+
+    private final TextTarget bombTarget;
+    private final TextTarget skipTarget;
+    private final TextTarget[] teamTargets;
+
+    private final char[] bombText = new char[BOMB_PREFIX.length + 20];
+    private final char[] skipText = new char[SKIP_PREFIX.length + 21];
+    private final char[][] teamText;
+
+    private long bombSeconds = NOT_SHOWN;
+    private int bombColor;
+    private long skipSeconds = NOT_SHOWN;
+    private final long[] teamSeconds;
+
+    public HudRenderer(TextTarget bombTarget, TextTarget skipTarget, TextTarget[] teamTargets) {
+        this.bombTarget = bombTarget;
+        this.skipTarget = skipTarget;
+        this.teamTargets = teamTargets.clone();
+        this.teamSeconds = new long[teamTargets.length];
+        this.teamText = new char[teamTargets.length][24];
+        System.arraycopy(BOMB_PREFIX, 0, bombText, 0, BOMB_PREFIX.length);
+        System.arraycopy(SKIP_PREFIX, 0, skipText, 0, SKIP_PREFIX.length);
+        invalidate();
+    }
+
+    /**
+     * Whole seconds shown for a countdown: rounded up, so the last second
+     * reads 1 and the deadline reads 0
+     */
+    public static long wholeSeconds(long remainingMillis) {
+        return remainingMillis > 0 ? (remainingMillis + 999) / 1000 : 0;
+    }
+
+    public void renderBomb(long remainingMillis) {
+        long seconds = wholeSeconds(remainingMillis);
+        if (seconds == bombSeconds) {
+            return;
+        }
+        bombSeconds = seconds;
+
+        int length = writeNumber(bombText, BOMB_PREFIX.length, seconds);
+        bombTarget.setText(bombText, length);
+
+        int color = seconds <= 5 ? BOMB_RED : seconds <= 10 ? BOMB_ORANGE : BOMB_YELLOW;
+        if (color != bombColor) {
+            bombColor = color;
+            bombTarget.setTextColor(color);
+        }
+    }
+
+    /**
+     * Show a team's time as m:ss
+     */
+    public void renderTeam(int teamIndex, long remainingMillis) {
+        long seconds = wholeSeconds(remainingMillis);
+        if (seconds == teamSeconds[teamIndex]) {
+            return;
+        }
+        teamSeconds[teamIndex] = seconds;
+
+        char[] text = teamText[teamIndex];
+        int length = writeNumber(text, 0, seconds / 60);
+        text[length++] = ':';
+        int rest = (int) (seconds % 60);
+        text[length++] = DIGITS[rest / 10];
+        text[length++] = DIGITS[rest % 10];
+        teamTargets[teamIndex].setText(text, length);
+    }
+
+    public void renderSkipCooldown(long remainingMillis) {
+        long seconds = wholeSeconds(remainingMillis);
+        if (seconds == skipSeconds) {
+            return;
+        }
+        skipSeconds = seconds;
+
+        int length = writeNumber(skipText, SKIP_PREFIX.length, seconds);
+        skipText[length++] = ')';
+        skipTarget.setText(skipText, length);
+    }
+
+    /**
+     * Call after the bomb view was changed elsewhere, so the next render redraws it
+     */
+    public void invalidateBomb() {
+        bombSeconds = NOT_SHOWN;
+        bombColor = 0;
+    }
+
+    /**
+     * Call after the skip button's label was changed elsewhere
+     */
+    public void invalidateSkip() {
+        skipSeconds = NOT_SHOWN;
+    }
+
+    /**
+     * Call after a team's view was changed elsewhere
+     */
+    public void invalidateTeam(int teamIndex) {
+        teamSeconds[teamIndex] = NOT_SHOWN;
+    }
+
+    public void invalidate() {
+        invalidateBomb();
+        invalidateSkip();
+        for (int i = 0; i < teamSeconds.length; i++) {
+            invalidateTeam(i);
+        }
+    }
+
+    /**
+     * Write a non-negative number in Persian digits at the given offset
+     *
+     * @return the offset just past the last digit
+     */
+    private static int writeNumber(char[] buffer, int offset, long value) {
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int end = offset + digits;
+        for (int i = end - 1; i >= offset; i--) {
+            buffer[i] = DIGITS[(int) (value % 10)];
+            value /= 10;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.dor.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random source for one game session.
+ *
+ * Every random choice made during a game (word order, difficulty picks, and
+ * anything sampled later) goes through the session's instance. A game can
+ * therefore be replayed exactly from its seed. Draws are allocation-free;
+ * only {@link #reseed} and {@link #split} allocate.
+ */
+public final class SessionRandom {
+
+    private long seed;
+    private SplittableRandom random;
+
+    public SessionRandom(long seed) {
+        reseed(seed);
+    }
+
+    /**
+     * A fresh, unpredictable seed for a new session
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Restart the sequence from the given seed
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return a uniformly distributed value in [0, bound)
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * @return a uniformly distributed value in [0, 1)
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    /**
+     * Derive an independent stream whose sequence is still fixed by this
+     * session's seed. Consumes one value from this stream.
+     */
+    public SessionRandom split() {
+        return new SessionRandom(random.nextLong());
+    }
+}
@@ -10,6 +10,9 @@ import android.os.Vibrator;
 
 import com.example.dor.R;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Manages sound effects and music for the game
  *
@@ -25,8 +28,8 @@ import com.example.dor.R;
  */
 public class SoundManager {
     private static SoundManager instance;
-    private Context context;
-    private SoundPool soundPool;
+    private volatile Context context;
+    private volatile SoundPool soundPool;
     private MediaPlayer backgroundMusic;
     private MediaPlayer bombTickPlayer; // For fast ticking in last 10 seconds
     private Vibrator vibrator;
@@ -57,7 +60,16 @@ public class SoundManager {
         return instance;
     }
 
-    public void init(Context context) {
+    /**
+     * Initialize on a background executor so SoundPool setup and sample
+     * loading stay off the main thread
+     */
+    public CompletableFuture<Void> initAsync(Context context, Executor executor) {
+        Context appContext = context.getApplicationContext();
+        return CompletableFuture.runAsync(() -> init(appContext), executor);
+    }
+
+    public synchronized void init(Context context) {
         if (initialized) return;
 
         this.context = context.getApplicationContext();
@@ -374,7 +386,7 @@ public class SoundManager {
         return isIntenseMode;
     }
 
-    public void release() {
+    public synchronized void release() {
         stopIntenseTickLoop();
 
         if (soundPool != null) {
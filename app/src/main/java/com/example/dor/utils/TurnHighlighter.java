@@ -0,0 +1,55 @@
+package com.example.dor.utils;
+
+/**
+ * Moves the "whose turn" highlight from one seat or team to the next.
+ *
+ * It remembers what is highlighted, so passing the turn touches only the
+ * one being left and the one taking over, however many there are.
+ */
+public class TurnHighlighter {
+
+    /**
+     * Something that shows one highlighted item among many, normally a row
+     * of views
+     */
+    public interface Target {
+        void setHighlighted(int index, boolean highlighted);
+    }
+
+    public static final int NONE = -1;
+
+    private final Target target;
+    private int current = NONE;
+
+    public TurnHighlighter(Target target) {
+        this.target = target;
+    }
+
+    /**
+     * Highlight an index, or nothing for {@link #NONE}
+     */
+    public void moveTo(int index) {
+        if (index == current) {
+            return;
+        }
+        if (current != NONE) {
+            target.setHighlighted(current, false);
+        }
+        current = index;
+        if (index != NONE) {
+            target.setHighlighted(index, true);
+        }
+    }
+
+    /**
+     * Forget the highlight after the target has redrawn every item plain,
+     * so the next {@link #moveTo} highlights again
+     */
+    public void reset() {
+        current = NONE;
+    }
+
+    public int getCurrent() {
+        return current;
+    }
+}
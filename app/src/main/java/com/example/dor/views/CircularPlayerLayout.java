@@ -1,23 +1,30 @@
 package com.example.dor.views;
 
-import android.animation.ValueAnimator;
 import android.content.Context;
 import android.util.AttributeSet;
 import android.view.View;
 import android.view.ViewGroup;
-import android.view.animation.DecelerateInterpolator;
 
 /**
  * A custom layout that arranges its children in a circle around a center point.
  * The first child is placed at the center, and all other children are arranged
- * in a circle around it. Supports rotation animation to keep current player at bottom.
+ * in a circle around it, the first of them at the bottom.
+ *
+ * Large parties that don't fit on one circle sit on up to three staggered
+ * rings: seats keep their place in turn order around the circle and take
+ * turns between the outer and inner rings, and shrink only if three rings
+ * are still too tight.
  */
 public class CircularPlayerLayout extends ViewGroup {
 
+    private static final int MAX_RINGS = 3;
+    // Share of a seat's arc its view may take up, leaving a gap between neighbours
+    private static final float SEAT_FILL = 0.9f;
+
     private int centerViewSize = 0;
+    private int ringCount = 1;
+    private int ringGap = 0;
     private float radiusRatio = 0.38f;
-    private float rotationOffset = 0f; // Current rotation offset in degrees
-    private ValueAnimator rotationAnimator;
 
     public CircularPlayerLayout(Context context) {
         super(context);
@@ -39,16 +46,47 @@ public class CircularPlayerLayout extends ViewGroup {
         // Make it square
         int size = Math.min(width, height);
 
-        // Measure all children
+        // Measure the center view as it asks
         int childCount = getChildCount();
-        for (int i = 0; i < childCount; i++) {
+        if (childCount > 0 && getChildAt(0).getVisibility() != GONE) {
+            measureChild(getChildAt(0),
+                MeasureSpec.makeMeasureSpec(size, MeasureSpec.AT_MOST),
+                MeasureSpec.makeMeasureSpec(size, MeasureSpec.AT_MOST));
+        }
+
+        // Seats take as many rings as they need, and shrink only past the last one
+        int seatCount = childCount - 1;
+        float scale = 1f;
+        ringCount = 1;
+        if (seatCount > 0) {
+            LayoutParams lp = getChildAt(1).getLayoutParams();
+            int seatWidth = Math.max(lp.width, lp.height);
+            double arc = 2 * Math.PI * size * radiusRatio / seatCount * SEAT_FILL;
+            while (ringCount < MAX_RINGS && arc * ringCount < seatWidth) {
+                ringCount++;
+            }
+            if (seatWidth > 0 && arc * ringCount < seatWidth) {
+                scale = (float) (arc * ringCount / seatWidth);
+            }
+        }
+        int seatHeight = 0;
+        for (int i = 1; i < childCount; i++) {
             View child = getChildAt(i);
-            if (child.getVisibility() != GONE) {
+            if (child.getVisibility() == GONE) continue;
+
+            LayoutParams lp = child.getLayoutParams();
+            if (lp.width > 0 && lp.height > 0) {
+                child.measure(
+                    MeasureSpec.makeMeasureSpec((int) (lp.width * scale), MeasureSpec.EXACTLY),
+                    MeasureSpec.makeMeasureSpec((int) (lp.height * scale), MeasureSpec.EXACTLY));
+            } else {
                 measureChild(child,
                     MeasureSpec.makeMeasureSpec(size, MeasureSpec.AT_MOST),
                     MeasureSpec.makeMeasureSpec(size, MeasureSpec.AT_MOST));
             }
+            seatHeight = Math.max(seatHeight, child.getMeasuredHeight());
         }
+        ringGap = seatHeight;
 
         setMeasuredDimension(size, size);
     }
@@ -90,84 +128,29 @@ public class CircularPlayerLayout extends ViewGroup {
         int minRadius = (centerViewSize / 2) + (childSize / 2) + dpToPx(16);
         int maxRadius = (containerSize / 2) - (childSize / 2) - dpToPx(8);
         int radius = Math.max(minRadius, Math.min(maxRadius, (int)(containerSize * radiusRatio)));
+        // Inner rings step in towards the center view, but never onto it
+        int gap = ringCount > 1 ? Math.min(ringGap, Math.max(0, radius - minRadius) / (ringCount - 1)) : 0;
 
-        // Layout each circular child with rotation offset
+        // Place each circular child on its ring, clockwise from the bottom (90 degrees)
+        double angleStep = 360.0 / circularChildCount;
         for (int i = 0; i < circularChildCount; i++) {
             View child = getChildAt(i + 1); // Skip center view
             if (child.getVisibility() == GONE) continue;
 
+            double angle = Math.toRadians(90 + angleStep * i);
+            int seatRadius = radius - (i % ringCount) * gap;
+            int x = centerX + (int) (seatRadius * Math.cos(angle));
+            int y = centerY + (int) (seatRadius * Math.sin(angle));
+
             int cw = child.getMeasuredWidth();
             int ch = child.getMeasuredHeight();
-
-            // Calculate angle: start from bottom (90 degrees) and go clockwise
-            // Add rotationOffset to rotate all players
-            double angle = Math.toRadians(90 + (360.0 / circularChildCount) * i + rotationOffset);
-
-            // Calculate center position of child
-            int childCenterX = centerX + (int)(radius * Math.cos(angle));
-            int childCenterY = centerY + (int)(radius * Math.sin(angle));
-
-            // Convert to top-left position
-            int cl = childCenterX - cw / 2;
-            int ct = childCenterY - ch / 2;
+            int cl = x - cw / 2;
+            int ct = y - ch / 2;
 
             child.layout(cl, ct, cl + cw, ct + ch);
         }
     }
 
-    /**
-     * Rotate to put a specific player index at the bottom
-     * @param playerIndex The index of the player (0-based, in circular children, not including center)
-     * @param animate Whether to animate the rotation
-     */
-    public void rotateToPlayer(int playerIndex, boolean animate) {
-        int circularChildCount = getChildCount() - 1;
-        if (circularChildCount <= 0) return;
-
-        // Calculate target rotation offset
-        // Player at index 0 is at 90 degrees by default (bottom)
-        // To put player at playerIndex at bottom, we need to rotate by -(playerIndex * angleStep)
-        float angleStep = 360f / circularChildCount;
-        float targetOffset = -playerIndex * angleStep;
-
-        // Normalize to avoid spinning multiple times
-        while (targetOffset - rotationOffset > 180) targetOffset -= 360;
-        while (targetOffset - rotationOffset < -180) targetOffset += 360;
-
-        if (animate) {
-            if (rotationAnimator != null && rotationAnimator.isRunning()) {
-                rotationAnimator.cancel();
-            }
-
-            rotationAnimator = ValueAnimator.ofFloat(rotationOffset, targetOffset);
-            rotationAnimator.setDuration(400);
-            rotationAnimator.setInterpolator(new DecelerateInterpolator());
-            rotationAnimator.addUpdateListener(animation -> {
-                rotationOffset = (float) animation.getAnimatedValue();
-                requestLayout();
-            });
-            rotationAnimator.start();
-        } else {
-            rotationOffset = targetOffset;
-            requestLayout();
-        }
-    }
-
-    /**
-     * Get the current rotation offset
-     */
-    public float getRotationOffset() {
-        return rotationOffset;
-    }
-
-    /**
-     * Set rotation offset directly (useful for initial setup)
-     */
-    public void setRotationOffset(float offset) {
-        this.rotationOffset = offset;
-        requestLayout();
-    }
-
     private int dpToPx(int dp) {
         return (int)(dp * getResources().getDisplayMetrics().density);
     }
@@ -0,0 +1,336 @@
+package com.example.dor.views;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Typeface;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.animation.DecelerateInterpolator;
+
+import com.example.dor.models.Seating;
+
+/**
+ * The game table: every seat's team dot and name around the center card,
+ * the current player highlighted at the bottom, and arrows showing which
+ * way the turn goes, all drawn on one canvas.
+ *
+ * Everything that doesn't change between turns is worked out when the seats
+ * or the size change: seat positions on a unit circle, names cut to fit
+ * their seats, text sizes and the arrow path. A turn change is then a single
+ * invalidate. While nothing moves the view keeps a hardware layer, so the
+ * timers and word card redrawing around it only composite the table.
+ */
+public class GameTableView extends View {
+
+    private static final int MAX_RINGS = 3;
+    // Share of a seat's arc it may take up, leaving a gap between neighbours
+    private static final float SEAT_FILL = 0.9f;
+    private static final float RADIUS_RATIO = 0.38f;
+    private static final float ARROW_RADIUS_RATIO = 0.26f;
+    private static final float CURRENT_SCALE = 1.2f;
+    private static final int OTHER_ALPHA = 153; // 60%
+    private static final int MAX_NAME_LENGTH = 24;
+
+    private final Paint dotPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint namePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint currentNamePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint arrowPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Path arrowPath = new Path();
+
+    private Seating seating;
+    private int currentSeat = -1;
+    private float centerSize = 0;
+    private float rotationOffset = 0f; // Current rotation offset in degrees
+    private ValueAnimator rotationAnimator;
+
+    // Per seat, worked out when the seats or the size change
+    private float[] seatCos = new float[0];
+    private float[] seatSin = new float[0];
+    private float[] seatRadius = new float[0];
+    private String[] names = new String[0];
+    // Team colors at full strength for the current player, dimmed for the rest
+    private int[] currentColors = new int[0];
+    private int[] otherColors = new int[0];
+    private float dotRadius;
+    private float seatHeight;
+    private float nameBaseline;
+
+    public GameTableView(Context context) {
+        super(context);
+        init();
+    }
+
+    public GameTableView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init();
+    }
+
+    public GameTableView(Context context, AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        init();
+    }
+
+    private void init() {
+        dotPaint.setStyle(Paint.Style.FILL);
+        namePaint.setTextAlign(Paint.Align.CENTER);
+        currentNamePaint.setTextAlign(Paint.Align.CENTER);
+        currentNamePaint.setTypeface(Typeface.DEFAULT_BOLD);
+
+        arrowPaint.setStyle(Paint.Style.FILL);
+        arrowPaint.setColor(0xAAFFFFFF); // 67% opacity - more visible
+
+        setLayerType(LAYER_TYPE_HARDWARE, null);
+    }
+
+    /**
+     * Seat the players, with the current one at the bottom
+     */
+    public void setSeating(Seating seating, int currentSeat) {
+        this.seating = seating;
+        this.currentSeat = currentSeat;
+        if (rotationAnimator != null) {
+            rotationAnimator.cancel();
+        }
+        rotationOffset = seating.size() > 0 ? -360f / seating.size() * Math.max(currentSeat, 0) : 0f;
+        buildSeats();
+        invalidate();
+    }
+
+    /**
+     * Size of the center card, so the seats stay clear of it
+     */
+    public void setCenterSize(float centerSize) {
+        this.centerSize = centerSize;
+        buildSeats();
+        invalidate();
+    }
+
+    /**
+     * Highlight a seat and turn the table to put it at the bottom
+     */
+    public void setCurrentSeat(int seat, boolean animate) {
+        int seatCount = seating != null ? seating.size() : 0;
+        boolean changed = seat != currentSeat;
+        currentSeat = seat;
+        if (seat < 0 || seat >= seatCount) {
+            invalidate();
+            return;
+        }
+
+        float targetOffset = -seat * (360f / seatCount);
+        // Normalize to avoid spinning multiple times
+        while (targetOffset - rotationOffset > 180) targetOffset -= 360;
+        while (targetOffset - rotationOffset < -180) targetOffset += 360;
+
+        if (rotationAnimator != null) {
+            rotationAnimator.cancel();
+        }
+        if (!animate || targetOffset == rotationOffset) {
+            // Already in place: only redraw if the highlight moved
+            if (changed || targetOffset != rotationOffset) {
+                rotationOffset = targetOffset;
+                invalidate();
+            }
+            return;
+        }
+
+        // The whole table moves every frame, so a layer would only be redrawn
+        setLayerType(LAYER_TYPE_NONE, null);
+        rotationAnimator = ValueAnimator.ofFloat(rotationOffset, targetOffset);
+        rotationAnimator.setDuration(400);
+        rotationAnimator.setInterpolator(new DecelerateInterpolator());
+        rotationAnimator.addUpdateListener(animation -> {
+            rotationOffset = (float) animation.getAnimatedValue();
+            invalidate();
+        });
+        rotationAnimator.addListener(new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                setLayerType(LAYER_TYPE_HARDWARE, null);
+            }
+        });
+        rotationAnimator.start();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        if (rotationAnimator != null) {
+            rotationAnimator.cancel();
+        }
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        buildSeats();
+        buildArrows();
+    }
+
+    /**
+     * Size the seats for the party, then place them on as many staggered
+     * rings as they need, shrinking them only if three rings are too tight
+     */
+    private void buildSeats() {
+        int seatCount = seating != null ? seating.size() : 0;
+        int size = Math.min(getWidth(), getHeight());
+        if (seatCount == 0 || size == 0) {
+            seatRadius = new float[0];
+            return;
+        }
+
+        float seatSize;
+        float textSize;
+        if (seatCount <= 4) {
+            seatSize = dpToPx(100);
+            textSize = 16;
+        } else if (seatCount <= 6) {
+            seatSize = dpToPx(94);
+            textSize = 14;
+        } else if (seatCount <= 10) {
+            seatSize = dpToPx(79);
+            textSize = 13;
+        } else {
+            seatSize = dpToPx(64);
+            textSize = 11;
+        }
+
+        int rings = 1;
+        double arc = 2 * Math.PI * size * RADIUS_RATIO / seatCount * SEAT_FILL;
+        while (rings < MAX_RINGS && arc * rings < seatSize) {
+            rings++;
+        }
+        float scale = arc * rings < seatSize ? (float) (arc * rings / seatSize) : 1f;
+        seatSize *= scale;
+
+        dotRadius = seatSize * 0.13f;
+        float textPx = textSize * scale * getResources().getDisplayMetrics().scaledDensity;
+        namePaint.setTextSize(textPx);
+        currentNamePaint.setTextSize(textPx);
+        Paint.FontMetrics metrics = namePaint.getFontMetrics();
+        float nameHeight = metrics.descent - metrics.ascent;
+        seatHeight = dotRadius * 2 + nameHeight;
+        // From the seat's center: dot on top, name right under it
+        nameBaseline = -seatHeight / 2 + dotRadius * 2 - metrics.ascent;
+
+        float minRadius = centerSize / 2 + seatSize / 2 + dpToPx(16);
+        float maxRadius = size / 2f - seatSize / 2 - dpToPx(8);
+        float radius = Math.max(minRadius, Math.min(maxRadius, size * RADIUS_RATIO));
+        // Inner rings step in towards the center card, but never onto it
+        float gap = rings > 1 ? Math.min(seatSize, Math.max(0, radius - minRadius) / (rings - 1)) : 0;
+
+        seatCos = new float[seatCount];
+        seatSin = new float[seatCount];
+        seatRadius = new float[seatCount];
+        names = new String[seatCount];
+        currentColors = new int[seatCount];
+        otherColors = new int[seatCount];
+        for (int i = 0; i < seatCount; i++) {
+            // Start from the bottom (90 degrees) and go clockwise
+            double angle = Math.toRadians(90 + (360.0 / seatCount) * i);
+            seatCos[i] = (float) Math.cos(angle);
+            seatSin[i] = (float) Math.sin(angle);
+            seatRadius[i] = radius - (i % rings) * gap;
+            names[i] = fitName(truncateName(seating.getName(i)), seatSize);
+            currentColors[i] = seating.getColor(i) | 0xFF000000;
+            otherColors[i] = (seating.getColor(i) & 0x00FFFFFF) | OTHER_ALPHA << 24;
+        }
+    }
+
+    private String truncateName(String name) {
+        if (name.length() > MAX_NAME_LENGTH) {
+            return name.substring(0, MAX_NAME_LENGTH - 1) + "..";
+        }
+        return name;
+    }
+
+    /**
+     * Cut a name down until it fits its seat, bold as the current player
+     */
+    private String fitName(String name, float width) {
+        if (currentNamePaint.measureText(name) <= width) {
+            return name;
+        }
+        int count = currentNamePaint.breakText(name, true, width - currentNamePaint.measureText(".."), null);
+        return name.substring(0, Math.max(0, count)) + "..";
+    }
+
+    /**
+     * Three arrows between the center card and the seats, pointing clockwise
+     */
+    private void buildArrows() {
+        arrowPath.reset();
+        float centerX = getWidth() / 2f;
+        float centerY = getHeight() / 2f;
+        float radius = Math.min(getWidth(), getHeight()) * ARROW_RADIUS_RATIO;
+        float arrowSize = dpToPx(12);
+
+        // Position at: top-right, bottom, left (showing clockwise flow)
+        float[] angles = {-30, 90, 210}; // degrees, starting from right=0
+        for (float angleDeg : angles) {
+            double angle = Math.toRadians(angleDeg);
+            float x = centerX + radius * (float) Math.cos(angle);
+            float y = centerY + radius * (float) Math.sin(angle);
+
+            // Tangent for the clockwise direction, and a chevron around it
+            double tangent = angle + Math.toRadians(90);
+            double base1 = tangent + Math.toRadians(150);
+            double base2 = tangent - Math.toRadians(150);
+            arrowPath.moveTo(x + arrowSize * (float) Math.cos(tangent), y + arrowSize * (float) Math.sin(tangent));
+            arrowPath.lineTo(x + arrowSize * 0.6f * (float) Math.cos(base1), y + arrowSize * 0.6f * (float) Math.sin(base1));
+            arrowPath.lineTo(x + arrowSize * 0.6f * (float) Math.cos(base2), y + arrowSize * 0.6f * (float) Math.sin(base2));
+            arrowPath.close();
+        }
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        canvas.drawPath(arrowPath, arrowPaint);
+
+        int seatCount = seatRadius.length;
+        if (seating == null || seatCount != seating.size()) return;
+
+        float centerX = getWidth() / 2f;
+        float centerY = getHeight() / 2f;
+        // Turning every seat by the same angle: one sin/cos pair for the table
+        double offset = Math.toRadians(rotationOffset);
+        float cos = (float) Math.cos(offset);
+        float sin = (float) Math.sin(offset);
+
+        for (int i = 0; i < seatCount; i++) {
+            float x = centerX + seatRadius[i] * (seatCos[i] * cos - seatSin[i] * sin);
+            float y = centerY + seatRadius[i] * (seatSin[i] * cos + seatCos[i] * sin);
+            drawSeat(canvas, i, x, y);
+        }
+    }
+
+    private void drawSeat(Canvas canvas, int seat, float x, float y) {
+        boolean current = seat == currentSeat;
+        int color = current ? currentColors[seat] : otherColors[seat];
+        Paint paint = current ? currentNamePaint : namePaint;
+
+        int save = canvas.save();
+        canvas.translate(x, y);
+        if (current) {
+            canvas.scale(CURRENT_SCALE, CURRENT_SCALE);
+        }
+
+        dotPaint.setColor(color);
+        canvas.drawCircle(0, -seatHeight / 2 + dotRadius, dotRadius, dotPaint);
+
+        paint.setColor(color);
+        canvas.drawText(names[seat], 0, nameBaseline, paint);
+
+        canvas.restoreToCount(save);
+    }
+
+    private float dpToPx(float dp) {
+        return dp * getResources().getDisplayMetrics().density;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.dor.data;
+
+import com.example.dor.models.CustomWord;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CustomWordStoreTest {
+
+    private File dir;
+    private File journal;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("words", "");
+        dir.delete();
+        dir.mkdirs();
+        journal = new File(dir, CustomWordStore.FILE_NAME);
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void addsAndRemoves_surviveReload() {
+        CustomWordStore store = newStore();
+        store.load();
+        CustomWord first = word(1, "first");
+        store.add(first);
+        store.add(word(2, "second"));
+        store.add(word(3, "third"));
+        store.remove(first);
+
+        List<CustomWord> loaded = newStore().load();
+        assertEquals(2, loaded.size());
+        assertEquals("second", loaded.get(0).getWord());
+        assertEquals("third", loaded.get(1).getWord());
+        assertEquals("film", loaded.get(1).getCategoryId());
+    }
+
+    @Test
+    public void tornLastRecord_isDroppedAndJournalStaysUsable() throws IOException {
+        CustomWordStore store = newStore();
+        store.load();
+        store.add(word(1, "kept"));
+        store.add(word(2, "torn"));
+
+        // Simulate a crash in the middle of the last append
+        try (RandomAccessFile file = new RandomAccessFile(journal, "rw")) {
+            file.setLength(file.length() - 5);
+        }
+
+        CustomWordStore recovered = newStore();
+        List<CustomWord> loaded = recovered.load();
+        assertEquals(1, loaded.size());
+        assertEquals("kept", loaded.get(0).getWord());
+
+        recovered.add(word(3, "after"));
+        assertEquals(2, newStore().load().size());
+    }
+
+    @Test
+    public void corruptRecord_stopsReplayThere() throws IOException {
+        CustomWordStore store = newStore();
+        store.load();
+        store.add(word(1, "kept"));
+        long goodLength = journal.length();
+        store.add(word(2, "corrupt"));
+        store.add(word(3, "lost"));
+
+        try (RandomAccessFile file = new RandomAccessFile(journal, "rw")) {
+            file.seek(goodLength + 10);
+            file.write(0x5A);
+        }
+
+        List<CustomWord> loaded = newStore().load();
+        assertEquals(1, loaded.size());
+        assertEquals(goodLength, journal.length());
+    }
+
+    @Test
+    public void mostlyDeadJournal_isCompacted() {
+        CustomWordStore store = newStore();
+        store.load();
+        for (int i = 1; i <= 500; i++) {
+            CustomWord word = word(i, "word" + i);
+            store.add(word);
+            if (i % 10 != 0) {
+                store.remove(word);
+            }
+        }
+
+        assertTrue(store.getRecordCount() < 200);
+        CustomWordStore reloaded = newStore();
+        assertEquals(50, reloaded.load().size());
+        assertEquals(store.getRecordCount(), reloaded.getRecordCount());
+    }
+
+    @Test
+    public void garbageFile_isReplacedWithEmptyJournal() throws IOException {
+        try (FileOutputStream out = new FileOutputStream(journal)) {
+            out.write(new byte[]{1, 2, 3});
+        }
+
+        CustomWordStore store = newStore();
+        assertTrue(store.load().isEmpty());
+        store.add(word(1, "fresh"));
+        assertEquals(1, newStore().load().size());
+    }
+
+    @Test
+    public void editsWriteTheSameBytes_howeverLongTheList() {
+        int[] sizes = {100, 1000, 5000};
+        int edits = 200;
+        long[] written = new long[sizes.length];
+
+        for (int s = 0; s < sizes.length; s++) {
+            tearDown();
+            dir.mkdirs();
+            CustomWordStore store = newStore();
+            store.load();
+            for (int i = 1; i <= sizes[s]; i++) {
+                store.add(word(i, "word" + i));
+            }
+
+            long before = journal.length();
+            for (int i = 0; i < edits; i++) {
+                store.add(word(1_000_000 + i, "extra" + i));
+            }
+            written[s] = journal.length() - before;
+        }
+
+        // An edit appends one record; the old storage rewrote every word
+        assertTrue(written[0] > 0);
+        assertEquals(written[0], written[1]);
+        assertEquals(written[0], written[2]);
+    }
+
+    private CustomWordStore newStore() {
+        return new CustomWordStore(journal, null, Runnable::run);
+    }
+
+    private static CustomWord word(long id, String text) {
+        return new CustomWord(id, text, "film", "فیلم و سریال");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.dor.data;
+
+import com.example.dor.utils.SessionRandom;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DifficultySamplerTest {
+
+    private static final int DRAWS = 60_000;
+
+    @Test
+    public void sameSeed_drawsSameSequence() {
+        DifficultySampler first = newSampler(42, new double[]{4, 2, 1});
+        DifficultySampler second = newSampler(42, new double[]{4, 2, 1});
+
+        for (int i = 0; i < DRAWS; i++) {
+            assertEquals(first.draw(), second.draw());
+        }
+    }
+
+    @Test
+    public void draws_followPerWordWeights() {
+        // 100 words per level, easy words weighted 4:2:1 against medium and hard
+        DifficultySampler sampler = newSampler(7, new double[]{4, 2, 1});
+
+        int[] counts = new int[DifficultySampler.LEVELS];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[sampler.draw() / 100]++;
+        }
+
+        assertEquals(4 / 7.0, counts[0] / (double) DRAWS, 0.01);
+        assertEquals(2 / 7.0, counts[1] / (double) DRAWS, 0.01);
+        assertEquals(1 / 7.0, counts[2] / (double) DRAWS, 0.01);
+    }
+
+    @Test
+    public void weightsExcludingAvailableLevels_fallBackToUniform() {
+        DifficultySampler sampler = new DifficultySampler(new SessionRandom(1));
+        sampler.reset(new int[][]{new int[0], new int[0], {5, 6, 7}});
+        sampler.setWeights(new double[]{1, 0, 0});
+
+        for (int i = 0; i < 30; i++) {
+            int id = sampler.draw();
+            assertTrue(id >= 5 && id <= 7);
+        }
+    }
+
+    @Test
+    public void emptySampler_drawsNothing() {
+        DifficultySampler sampler = new DifficultySampler(new SessionRandom(1));
+        sampler.reset(new int[][]{new int[0], new int[0], new int[0]});
+
+        assertEquals(-1, sampler.draw());
+    }
+
+    private static DifficultySampler newSampler(long seed, double[] weights) {
+        int[][] ids = new int[DifficultySampler.LEVELS][100];
+        for (int level = 0; level < ids.length; level++) {
+            for (int i = 0; i < 100; i++) {
+                ids[level][i] = level * 100 + i;
+            }
+        }
+        DifficultySampler sampler = new DifficultySampler(new SessionRandom(seed));
+        sampler.reset(ids);
+        sampler.setWeights(weights);
+        return sampler;
+    }
+}
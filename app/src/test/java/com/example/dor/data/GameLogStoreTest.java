@@ -0,0 +1,73 @@
+package com.example.dor.data;
+
+import com.example.dor.engine.GameLog;
+import com.example.dor.engine.GameRules;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class GameLogStoreTest {
+
+    private static final GameRules RULES = new GameRules(90_000, 45_000, 10_000, 20_000);
+
+    private File dir;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("log", "");
+        dir.delete();
+        dir.mkdirs();
+        file = new File(dir, GameLogStore.FILE_NAME);
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+        dir.delete();
+    }
+
+    private GameLogStore newStore() {
+        return new GameLogStore(file, Runnable::run);
+    }
+
+    @Test
+    public void flushes_appendToTheFile() throws IOException {
+        GameLogStore store = newStore();
+        GameLog log = new GameLog(RULES, 2, 2);
+        store.start(log);
+        log.append(GameLog.TURN_STARTED, 0, 0, 3);
+        store.flush();
+        log.append(GameLog.WORD_GUESSED, 4_000, 0, -1);
+        log.append(GameLog.TURN_PASSED, 4_000, 1, 9);
+        store.finish();
+
+        assertArrayEquals(log.toByteArray(), newStore().read());
+    }
+
+    @Test
+    public void newGame_replacesTheLastOne() throws IOException {
+        GameLogStore store = newStore();
+        GameLog first = new GameLog(RULES, 2, 2);
+        store.start(first);
+        first.append(GameLog.TURN_STARTED, 0, 0, 3);
+        store.finish();
+
+        GameLog second = new GameLog(RULES, 3, 2);
+        store.start(second);
+        store.flush();
+
+        assertArrayEquals(second.toByteArray(), store.read());
+    }
+
+    @Test
+    public void noGame_readsNull() throws IOException {
+        assertNull(newStore().read());
+    }
+}
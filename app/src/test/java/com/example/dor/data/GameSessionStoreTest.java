@@ -0,0 +1,58 @@
+package com.example.dor.data;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class GameSessionStoreTest {
+
+    private File dir;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("session", "");
+        dir.delete();
+        dir.mkdirs();
+        file = new File(dir, GameSessionStore.FILE_NAME);
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+        dir.delete();
+    }
+
+    private GameSessionStore newStore() {
+        return new GameSessionStore(file, Runnable::run);
+    }
+
+    @Test
+    public void save_replacesTheLastSnapshot() {
+        GameSessionStore store = newStore();
+        store.save(new byte[]{1, 2, 3});
+        store.save(new byte[]{4, 5});
+
+        assertArrayEquals(new byte[]{4, 5}, newStore().read());
+        assertEquals(1, dir.list().length);
+    }
+
+    @Test
+    public void clear_forgetsTheGame() {
+        GameSessionStore store = newStore();
+        store.save(new byte[]{1, 2, 3});
+        store.clear();
+
+        assertNull(store.read());
+    }
+
+    @Test
+    public void noGame_readsNull() {
+        assertNull(newStore().read());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Word;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class RecentWordsFilterTest {
+
+    @Test
+    public void fullRing_forgetsOldestKeys() {
+        RecentWordsFilter filter = new RecentWordsFilter(100);
+        for (int key = 1; key <= 250; key++) {
+            filter.add(key);
+        }
+
+        assertEquals(100, filter.size());
+        for (int key = 1; key <= 150; key++) {
+            assertFalse(filter.contains(key));
+        }
+        for (int key = 151; key <= 250; key++) {
+            assertTrue(filter.contains(key));
+        }
+    }
+
+    @Test
+    public void saveAndLoad_keepsNewestKeysInOrder() throws IOException {
+        RecentWordsFilter filter = new RecentWordsFilter(50);
+        for (int key = 1; key <= 80; key++) {
+            filter.add(key * 7919);
+        }
+
+        File file = File.createTempFile("recent", ".bin");
+        try {
+            RecentWordsFilter.save(file, filter.snapshot());
+
+            RecentWordsFilter loaded = new RecentWordsFilter(50);
+            loaded.load(file);
+            assertArrayEquals(filter.snapshot(), loaded.snapshot());
+
+            // A smaller filter keeps only the newest keys
+            RecentWordsFilter smaller = new RecentWordsFilter(10);
+            smaller.load(file);
+            assertTrue(smaller.contains(80 * 7919));
+            assertFalse(smaller.contains(70 * 7919));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void zeroKeys_neverTakeAnEmptySlot() throws IOException {
+        File file = File.createTempFile("recent", ".bin");
+        try {
+            // A damaged file with zeros among its keys
+            RecentWordsFilter.save(file, new int[]{0, 16, 0, 32});
+            RecentWordsFilter loaded = new RecentWordsFilter(8);
+            loaded.load(file);
+            assertArrayEquals(new int[]{16, 32}, loaded.snapshot());
+
+            // Added directly, 0 is stored under a non-zero key and can be forgotten again
+            for (int key = 0; key < 20; key++) {
+                loaded.add(key * 16);
+                assertTrue(loaded.contains(key * 16));
+            }
+            assertFalse(loaded.contains(0));
+            for (int key = 12; key < 20; key++) {
+                assertTrue(loaded.contains(key * 16));
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void missingFile_loadsEmpty() {
+        RecentWordsFilter filter = new RecentWordsFilter();
+        filter.add(5);
+        filter.load(new File("does-not-exist.bin"));
+
+        assertEquals(0, filter.size());
+        assertFalse(filter.contains(5));
+    }
+
+    @Test
+    public void keys_dependOnTextAndCategory() {
+        int key = RecentWordsFilter.keyOf(new Word("شنا", "sports", 1));
+
+        assertEquals(key, RecentWordsFilter.keyOf(new Word("شنا", "sports", 3)));
+        assertNotEquals(key, RecentWordsFilter.keyOf(new Word("شنا", "film", 1)));
+        assertNotEquals(key, RecentWordsFilter.keyOf(new Word("تنیس", "sports", 1)));
+    }
+}
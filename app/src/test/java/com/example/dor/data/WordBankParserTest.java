@@ -0,0 +1,83 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Category;
+import com.example.dor.models.Word;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the streaming word bank parser against the old whole-file Gson path.
+ */
+public class WordBankParserTest {
+
+    private static final File WORDS_JSON = new File("src/main/assets/words.json");
+
+    @Test
+    public void streamingParser_matchesGson() throws IOException {
+        byte[] json = Files.readAllBytes(WORDS_JSON.toPath());
+
+        List<Category> expected = parseWholeFile(new ByteArrayInputStream(json));
+        List<Category> actual = WordBankParser.parse(new ByteArrayInputStream(json));
+
+        assertEquals(expected.size(), actual.size());
+        for (int c = 0; c < expected.size(); c++) {
+            Category e = expected.get(c);
+            Category a = actual.get(c);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getEmoji(), a.getEmoji());
+            assertEquals(e.getWordCount(), a.getWordCount());
+            for (int w = 0; w < e.getWordCount(); w++) {
+                Word ew = e.getWords().get(w);
+                Word aw = a.getWords().get(w);
+                assertEquals(ew.getText(), aw.getText());
+                assertEquals(ew.getCategory(), aw.getCategory());
+                assertEquals(ew.getDifficulty(), aw.getDifficulty());
+            }
+        }
+    }
+
+    @Test
+    public void streamingParser_skipsUnknownFieldsAndNulls() throws IOException {
+        String json = "[{\"id\":\"x\",\"extra\":{\"a\":[1,2]},\"name\":null,"
+                + "\"words\":[{\"text\":\"a\",\"difficulty\":2,\"tag\":true},{\"difficulty\":1}]},"
+                + "{\"id\":\"y\",\"words\":null}]";
+
+        List<Category> categories = WordBankParser.parse(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, categories.size());
+        assertNull(categories.get(0).getName());
+        assertEquals(1, categories.get(0).getWordCount());
+        assertEquals("x", categories.get(0).getWords().get(0).getCategory());
+        assertEquals(2, categories.get(0).getWords().get(0).getDifficulty());
+        assertEquals(0, categories.get(1).getWordCount());
+    }
+
+    /**
+     * The original loader: read everything into a byte[] and a String, then bind with Gson.
+     */
+    private static List<Category> parseWholeFile(InputStream is) throws IOException {
+        int size = is.available();
+        byte[] buffer = new byte[size];
+        is.read(buffer);
+        is.close();
+
+        String json = new String(buffer, StandardCharsets.UTF_8);
+        Type listType = new TypeToken<List<Category>>() {}.getType();
+        return new Gson().fromJson(json, listType);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Category;
+import com.example.dor.models.Word;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class WordIndexTest {
+
+    private Category film;
+    private WordIndex index;
+
+    @Before
+    public void setUp() {
+        film = new Category("film", "Film", "F");
+        film.setWords(new ArrayList<>(Arrays.asList(
+                new Word("a", "film", 1),
+                new Word("b", "film", 2),
+                new Word("c", "film", 3))));
+        index = new WordIndex(Collections.singletonList(film));
+    }
+
+    @Test
+    public void addWord_appendsToCategoryAndSelection() {
+        int id = index.addWord(new Word("d", "film", 1));
+
+        assertEquals("d", index.getWord(id).getText());
+        assertEquals(4, film.getWords().size());
+        assertEquals(4, selectedTexts().size());
+        assertEquals(-1, index.addWord(new Word("x", "unknown", 1)));
+    }
+
+    @Test
+    public void removeWord_movesLastWordIntoPlace() {
+        int d = index.addWord(new Word("d", "film", 1));
+        int e = index.addWord(new Word("e", "film", 2));
+
+        assertTrue(index.removeWord(d));
+        assertFalse(index.removeWord(d));
+
+        assertEquals(Arrays.asList("a", "b", "c", "e"), texts(film.getWords()));
+        assertEquals("e", index.getWord(e).getText());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c", "e")), selectedTexts());
+        assertEquals(4, index.getCategoryWordCount("film"));
+
+        // The moved word can itself be removed
+        assertTrue(index.removeWord(e));
+        assertEquals(Arrays.asList("a", "b", "c"), texts(film.getWords()));
+    }
+
+    private Set<String> selectedTexts() {
+        Set<String> texts = new HashSet<>();
+        for (int[] level : index.selectWordIds(Collections.singletonList("film"))) {
+            for (int id : level) {
+                texts.add(index.getWord(id).getText());
+            }
+        }
+        return texts;
+    }
+
+    private static List<String> texts(List<Word> words) {
+        List<String> texts = new ArrayList<>();
+        for (Word word : words) {
+            texts.add(word.getText());
+        }
+        return texts;
+    }
+}
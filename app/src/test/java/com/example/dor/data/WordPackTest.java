@@ -0,0 +1,88 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Category;
+import com.example.dor.models.Word;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Round-trips the generated word pack against its JSON source.
+ * The pack path is provided by the generateWordPack task through the
+ * dor.wordPack system property.
+ */
+public class WordPackTest {
+
+    private static final File WORDS_JSON = new File("src/main/assets/words.json");
+
+    private File packFile;
+
+    @Before
+    public void setUp() {
+        String path = System.getProperty("dor.wordPack");
+        assumeTrue("word pack not generated", path != null && new File(path).isFile());
+        packFile = new File(path);
+    }
+
+    @Test
+    public void pack_matchesJsonSource() throws IOException {
+        List<Category> expected;
+        try (FileInputStream in = new FileInputStream(WORDS_JSON)) {
+            expected = WordBankParser.parse(in);
+        }
+        List<Category> actual = mapPack().toCategories();
+
+        assertEquals(expected.size(), actual.size());
+        for (int c = 0; c < expected.size(); c++) {
+            Category e = expected.get(c);
+            Category a = actual.get(c);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getEmoji(), a.getEmoji());
+            assertEquals(e.getWordCount(), a.getWordCount());
+            for (int w = 0; w < e.getWordCount(); w++) {
+                Word ew = e.getWords().get(w);
+                Word aw = a.getWords().get(w);
+                assertEquals(ew.getText(), aw.getText());
+                assertEquals(ew.getCategory(), aw.getCategory());
+                assertEquals(ew.getDifficulty(), aw.getDifficulty());
+            }
+        }
+    }
+
+    @Test
+    public void packedWords_areMaterializedOnceAndAppendable() throws IOException {
+        Category category = mapPack().toCategories().get(0);
+        List<Word> words = category.getWords();
+        int packedCount = words.size();
+
+        assertSame(words.get(0), words.get(0));
+
+        Word custom = new Word("custom", category.getId(), 1);
+        words.add(custom);
+        assertEquals(packedCount + 1, category.getWordCount());
+        assertSame(custom, words.get(packedCount));
+    }
+
+    @Test(expected = IOException.class)
+    public void wrap_rejectsForeignData() throws IOException {
+        WordPack.wrap(ByteBuffer.wrap(new byte[64]));
+    }
+
+    private WordPack mapPack() throws IOException {
+        try (FileInputStream in = new FileInputStream(packFile);
+             FileChannel channel = in.getChannel()) {
+            return WordPack.map(channel, 0, channel.size());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.dor.data;
+
+import com.example.dor.models.Category;
+import com.example.dor.models.CustomWord;
+import com.example.dor.models.GameMode;
+import com.example.dor.models.Word;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class WordRepositoryTest {
+
+    private static final List<String> SELECTION = Arrays.asList("film", "sports", "books");
+    private static final int GAME_WORDS = 400; // Several cycles through the selection
+
+    private WordRepository repository;
+
+    @Before
+    public void setUp() throws IOException {
+        repository = WordRepository.getInstance();
+        try (FileInputStream in = new FileInputStream("src/main/assets/words.json")) {
+            repository.loadCategories(in);
+        }
+    }
+
+    @Test
+    public void sameSeed_replaysGameWordForWord() {
+        repository.setDifficultyWeights(GameMode.PROFESSIONAL.getDifficultyWeights());
+        List<String> original = playGame(1234L);
+
+        // Play an unrelated game in between so any leftover state would show
+        repository.setDifficultyWeights(GameMode.QUICK.getDifficultyWeights());
+        repository.prepareWordsForGame(Arrays.asList("food", "film"), 99L);
+        for (int i = 0; i < 57; i++) {
+            repository.getNextWord();
+        }
+
+        repository.setDifficultyWeights(GameMode.PROFESSIONAL.getDifficultyWeights());
+        assertEquals(original, playGame(1234L));
+    }
+
+    @Test
+    public void differentSeeds_giveDifferentGames() {
+        assertNotEquals(playGame(1L), playGame(2L));
+    }
+
+    @Test
+    public void nextGame_avoidsRecentlySeenWords() {
+        repository.clearRecentWords();
+        repository.setDifficultyWeights(null);
+        List<String> first = drawWords(SELECTION, 1L, 30);
+        List<String> second = drawWords(SELECTION, 2L, 30);
+
+        Set<String> overlap = new HashSet<>(first);
+        overlap.retainAll(second);
+        assertTrue(overlap.isEmpty());
+    }
+
+    @Test
+    public void exhaustedSelection_stillDealsWords() {
+        repository.clearRecentWords();
+        List<String> selection = Arrays.asList("film");
+        int size = repository.getCategories().get(0).getWords().size();
+
+        drawWords(selection, 1L, size);
+        List<String> again = drawWords(selection, 2L, size);
+        assertFalse(again.contains(null));
+        assertEquals(size, again.size());
+    }
+
+    @Test
+    public void customWords_areMergedAndDeleted() {
+        Category film = repository.getCategories().get(0);
+        int bankSize = film.getWords().size();
+        repository.mergeCustomWords(Arrays.asList(
+                new CustomWord(0, "saved", "film", "Film"),
+                new CustomWord(0, "orphan", "gone", "Gone")));
+
+        CustomWord added = repository.addCustomWord("added", film);
+        assertEquals(3, repository.getCustomWords().size());
+        assertEquals(bankSize + 2, film.getWords().size());
+        assertTrue(drawWords(Arrays.asList("film"), 5L, bankSize + 2).contains("added"));
+
+        repository.deleteCustomWord(0);
+        assertSame(added, repository.getCustomWords().get(1));
+        repository.deleteCustomWord(1);
+        assertEquals(1, repository.getCustomWords().size());
+        assertEquals("orphan", repository.getCustomWords().get(0).getWord());
+        assertEquals(bankSize, film.getWords().size());
+        assertFalse(drawWords(Arrays.asList("film"), 6L, bankSize * 3).contains("saved"));
+    }
+
+    private List<String> playGame(long seed) {
+        // Replays also depend on the recently seen words, so start from none
+        repository.clearRecentWords();
+        return drawWords(SELECTION, seed, GAME_WORDS);
+    }
+
+    private List<String> drawWords(List<String> selection, long seed, int count) {
+        repository.prepareWordsForGame(selection, seed);
+        assertEquals(seed, repository.getSessionSeed());
+
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Word word = repository.getNextWord();
+            words.add(word.getText());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.dor.engine;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class GameEngineTest {
+
+    // Team 60s, bomb 20s, penalty 15s, skip cooldown 5s
+    private static final GameRules RULES = new GameRules(60_000, 20_000, 15_000, 5_000);
+    // Team time runs out before the bomb
+    private static final GameRules SHORT_TEAM_TIME = new GameRules(10_000, 20_000, 15_000, 5_000);
+
+    private final List<String> events = new ArrayList<>();
+    private GameEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = newEngine(RULES, 3);
+    }
+
+    private GameEngine newEngine(GameRules rules, int teams) {
+        GameEngine engine = new GameEngine(rules, teams, 2);
+        engine.setListener(new GameEngine.Listener() {
+            @Override
+            public void onTurnStarted(int team, int player) {
+                events.add("start " + team + "/" + player);
+            }
+
+            @Override
+            public void onWordGuessed(int team, long timeSpentMillis) {
+                events.add("guess " + team + " " + timeSpentMillis);
+            }
+
+            @Override
+            public void onTurnPassed(int team, int player) {
+                events.add("pass " + team + "/" + player);
+            }
+
+            @Override
+            public void onWordSkipped(int team) {
+                events.add("skip " + team);
+            }
+
+            @Override
+            public void onSkipReady() {
+                events.add("skipReady");
+            }
+
+            @Override
+            public void onBombExploded(int team, long timeSpentMillis, long penaltyMillis) {
+                events.add("bomb " + team + " " + timeSpentMillis);
+            }
+
+            @Override
+            public void onTeamEliminated(int team) {
+                events.add("out " + team);
+            }
+
+            @Override
+            public void onWaitingForTurn(int team, int player) {
+                events.add("wait " + team + "/" + player);
+            }
+
+            @Override
+            public void onGameOver(int winnerTeam) {
+                events.add("over " + winnerTeam);
+            }
+        });
+        return engine;
+    }
+
+    @Test
+    public void guess_passesBombToNextTeam_andSwitchesPlayerOnWrap() {
+        assertTrue(engine.startTurn(0));
+        engine.wordGuessed(1_000);
+        engine.wordGuessed(2_000);
+        engine.wordGuessed(3_000);
+
+        assertEquals(0, engine.getCurrentTeam());
+        assertEquals(1, engine.getCurrentPlayer());
+        assertEquals(List.of("start 0/0", "guess 0 1000", "pass 1/0", "guess 1 1000", "pass 2/0",
+                "guess 2 1000", "pass 0/1"), events);
+
+        // Each team paid only for its own turn
+        assertEquals(59_000, engine.getTeamRemainingMillis(1));
+        assertEquals(59_000, engine.getTeamRemainingMillis(2));
+    }
+
+    @Test
+    public void bombKeepsBurningAcrossGuesses() {
+        engine.startTurn(0);
+        engine.wordGuessed(12_000);
+        assertEquals(8_000, engine.getBombRemainingMillis());
+
+        engine.advanceTo(20_000);
+
+        assertTrue(events.contains("bomb 1 8000"));
+        assertEquals(GameEngine.Phase.WAITING, engine.getPhase());
+        // Team 1 held the bomb for 8s and paid the penalty; the same player starts again
+        assertEquals(60_000 - 8_000 - 15_000, engine.getTeamRemainingMillis(1));
+        assertEquals(1, engine.getCurrentTeam());
+        assertEquals("wait 1/0", events.get(events.size() - 1));
+    }
+
+    @Test
+    public void skip_onlyAfterCooldown() {
+        engine.startTurn(0);
+        assertFalse(engine.skip(4_999));
+        assertFalse(engine.canSkip());
+
+        assertTrue(engine.skip(5_000));
+        assertEquals(List.of("start 0/0", "skipReady", "skip 0"), events);
+        // Skipping deals a new word, so the cooldown starts over
+        assertEquals(5_000, engine.getSkipRemainingMillis());
+    }
+
+    @Test
+    public void teamTimeUp_eliminatesTeam_andNextTeamWaits() {
+        GameEngine engine = newEngine(SHORT_TEAM_TIME, 3);
+        engine.startTurn(0);
+        engine.advanceTo(9_999);
+        assertFalse(engine.isEliminated(0));
+        engine.advanceTo(25_000);
+
+        assertTrue(engine.isEliminated(0));
+        assertEquals(2, engine.getActiveTeamCount());
+        assertEquals(1, engine.getCurrentTeam());
+        // The team was out before the bomb could go off
+        assertEquals(List.of("start 0/0", "skipReady", "out 0", "wait 1/0"), events);
+        assertEquals(GameEngine.Phase.WAITING, engine.getPhase());
+    }
+
+    @Test
+    public void lastTeamStanding_wins() {
+        GameEngine engine = newEngine(RULES, 2);
+        // Team 0 loses 15s per explosion until it is out
+        long now = 0;
+        while (!engine.isOver()) {
+            assertTrue(engine.startTurn(now));
+            now += 20_000;
+            engine.advanceTo(now);
+            now += 1_000;
+        }
+
+        assertEquals(1, engine.getWinner());
+        assertEquals("over 1", events.get(events.size() - 1));
+        assertFalse(engine.startTurn(now));
+    }
+
+    @Test
+    public void eliminatedTeams_areSkipped() {
+        GameEngine engine = newEngine(SHORT_TEAM_TIME, 3);
+        engine.startTurn(0);
+        engine.advanceTo(10_000); // team 0 out
+        events.clear();
+
+        engine.startTurn(10_000);
+        engine.wordGuessed(11_000);
+        engine.wordGuessed(12_000);
+
+        assertEquals(List.of("start 1/0", "guess 1 1000", "pass 2/0", "guess 2 1000", "pass 1/1"), events);
+        assertEquals(2, engine.getNextTeam());
+        assertEquals(1, engine.getNextPlayer());
+        // Seats count the first players of every team, then the second ones
+        assertEquals(4, engine.getCurrentSeat());
+        assertEquals(5, engine.getNextSeat());
+    }
+
+    @Test
+    public void pause_freezesEveryDeadline() {
+        engine.startTurn(0);
+        engine.pause(3_000);
+        assertFalse(engine.wordGuessed(4_000));
+        engine.advanceTo(100_000);
+        assertEquals(GameEngine.Phase.PLAYING, engine.getPhase());
+        assertEquals(17_000, engine.getBombRemainingMillis());
+
+        engine.resume(100_000);
+        engine.advanceTo(116_999);
+        assertFalse(events.contains("bomb 0 20000"));
+        engine.advanceTo(117_000);
+        assertTrue(events.contains("bomb 0 20000"));
+        assertEquals(60_000 - 20_000 - 15_000, engine.getTeamRemainingMillis(0));
+    }
+
+    @Test
+    public void deadlines_fireInTimeOrder_withinOneAdvance() {
+        engine.startTurn(0);
+        engine.advanceTo(30_000);
+
+        assertEquals(List.of("start 0/0", "skipReady", "bomb 0 20000", "wait 0/0"), events);
+        assertEquals(25_000, engine.getTeamRemainingMillis(0));
+    }
+
+    @Test
+    public void sameInputs_sameEvents() {
+        List<String> first = playRandomGame(42);
+        List<String> second = playRandomGame(42);
+        assertEquals(first, second);
+        assertTrue(first.get(first.size() - 1).startsWith("over"));
+    }
+
+    private List<String> playRandomGame(long seed) {
+        events.clear();
+        GameEngine engine = newEngine(RULES, 4);
+        SplittableRandom random = new SplittableRandom(seed);
+        long now = 0;
+        while (!engine.isOver()) {
+            now += random.nextInt(1, 8_000);
+            if (!engine.startTurn(now) && !(random.nextInt(4) == 0 ? engine.skip(now) : engine.wordGuessed(now))) {
+                engine.advanceTo(now);
+            }
+        }
+        return new ArrayList<>(events);
+    }
+
+    @Test
+    public void largeTeams_takeTurnsInSeatOrder() {
+        GameEngine engine = new GameEngine(RULES, 3, 4);
+        engine.startTurn(0);
+        List<Integer> seats = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            seats.add(engine.getCurrentSeat());
+            engine.wordGuessed(i * 100);
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11), seats);
+        // Round the table once: every team's fourth player has had the bomb
+        assertEquals(0, engine.getCurrentSeat());
+    }
+
+    /**
+     * The seat after the current one, found by walking the whole table
+     */
+    private static int walkToNextSeat(GameEngine engine) {
+        int seats = engine.getTeamCount() * engine.getPlayersPerTeam();
+        int seat = engine.getCurrentSeat();
+        for (int i = 0; i < seats; i++) {
+            seat = (seat + 1) % seats;
+            if (!engine.isEliminated(seat % engine.getTeamCount())) {
+                break;
+            }
+        }
+        return seat;
+    }
+
+    @Test
+    public void ring_matchesWalkingTheTable() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int game = 0; game < 200; game++) {
+            GameEngine engine = new GameEngine(SHORT_TEAM_TIME, random.nextInt(2, 12), random.nextInt(1, 5));
+            long now = 0;
+            while (!engine.isOver()) {
+                assertEquals(walkToNextSeat(engine), engine.getNextSeat());
+                now += random.nextInt(1, 4_000);
+                if (!engine.startTurn(now) && !engine.wordGuessed(now)) {
+                    engine.advanceTo(now);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void savedState_rebuildsTheRing() throws IOException {
+        GameEngine engine = newEngine(SHORT_TEAM_TIME, 4);
+        engine.startTurn(0);
+        engine.advanceTo(10_000); // team 0 out
+        engine.startTurn(10_000);
+        engine.wordGuessed(11_000);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        engine.writeState(new DataOutputStream(bytes));
+        GameEngine restored = new GameEngine(SHORT_TEAM_TIME, 4, 2);
+        restored.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals(engine.getCurrentSeat(), restored.getCurrentSeat());
+            assertEquals(engine.getNextSeat(), restored.getNextSeat());
+            engine.wordGuessed(11_000 + i);
+            restored.wordGuessed(11_000 + i);
+        }
+    }
+
+    @Test
+    public void everyTeamGoesOutOnce_andTheLastOneWins() {
+        // More teams than bits in one word of the bitset
+        int teamCount = 70;
+        GameEngine engine = new GameEngine(SHORT_TEAM_TIME, teamCount, 1);
+        int[] outs = new int[teamCount];
+        int[] winner = {-2};
+        engine.setListener(new GameEngine.Listener() {
+            @Override
+            public void onTeamEliminated(int team) {
+                outs[team]++;
+            }
+
+            @Override
+            public void onGameOver(int winnerTeam) {
+                winner[0] = winnerTeam;
+            }
+        });
+
+        SplittableRandom random = new SplittableRandom(3);
+        long now = 0;
+        while (!engine.isOver()) {
+            now += random.nextInt(1, 4_000);
+            if (!engine.startTurn(now) && !engine.wordGuessed(now)) {
+                engine.advanceTo(now);
+            }
+            int active = 0;
+            for (int team = 0; team < teamCount; team++) {
+                active += engine.isEliminated(team) ? 0 : 1;
+            }
+            assertEquals(active, engine.getActiveTeamCount());
+        }
+
+        assertEquals(1, engine.getActiveTeamCount());
+        assertEquals(winner[0], engine.getWinner());
+        assertFalse(engine.isEliminated(winner[0]));
+        for (int team = 0; team < teamCount; team++) {
+            assertEquals(team == winner[0] ? 0 : 1, outs[team]);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.dor.engine;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+public class GameLogTest {
+
+    private static final GameRules RULES = new GameRules(90_000, 45_000, 10_000, 20_000);
+
+    /**
+     * Writes every event down as text, and logs it
+     */
+    private static final class Trace implements GameEngine.Listener {
+        final List<String> events = new ArrayList<>();
+        GameEngine.Listener recorder = new GameEngine.Listener() {
+        };
+        int wordId;
+
+        private void add(String event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onTurnStarted(int team, int player) {
+            add("start " + team + "/" + player + " word " + wordId);
+            recorder.onTurnStarted(team, player);
+        }
+
+        @Override
+        public void onWordGuessed(int team, long timeSpentMillis) {
+            add("guess " + team + " " + timeSpentMillis);
+            recorder.onWordGuessed(team, timeSpentMillis);
+        }
+
+        @Override
+        public void onTurnPassed(int team, int player) {
+            add("pass " + team + "/" + player + " word " + wordId);
+            recorder.onTurnPassed(team, player);
+        }
+
+        @Override
+        public void onWordSkipped(int team) {
+            add("skip " + team + " word " + wordId);
+            recorder.onWordSkipped(team);
+        }
+
+        @Override
+        public void onSkipReady() {
+            add("skip ready");
+            recorder.onSkipReady();
+        }
+
+        @Override
+        public void onBombExploded(int team, long timeSpentMillis, long penaltyMillis) {
+            add("boom " + team + " " + timeSpentMillis);
+            recorder.onBombExploded(team, timeSpentMillis, penaltyMillis);
+        }
+
+        @Override
+        public void onTeamEliminated(int team) {
+            add("out " + team);
+            recorder.onTeamEliminated(team);
+        }
+
+        @Override
+        public void onWaitingForTurn(int team, int player) {
+            add("wait " + team + "/" + player);
+            recorder.onWaitingForTurn(team, player);
+        }
+
+        @Override
+        public void onGameOver(int winnerTeam) {
+            add("over " + winnerTeam);
+            recorder.onGameOver(winnerTeam);
+        }
+
+        @Override
+        public void onPaused() {
+            add("pause");
+            recorder.onPaused();
+        }
+
+        @Override
+        public void onResumed() {
+            add("resume");
+            recorder.onResumed();
+        }
+    }
+
+    /**
+     * Play a random game with random pauses, logging it
+     */
+    private static GameLog playLogged(long seed, Trace trace) {
+        GameEngine engine = new GameEngine(RULES, 4, 2);
+        GameLog log = new GameLog(RULES, 4, 2);
+        trace.recorder = new GameLog.Recorder(log, engine, () -> trace.wordId);
+        engine.setListener(trace);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long now = 0;
+        while (!engine.isOver()) {
+            now += random.nextInt(3_000);
+            trace.wordId = random.nextInt(1_000);
+            if (engine.getPhase() == GameEngine.Phase.WAITING) {
+                engine.startTurn(now);
+                continue;
+            }
+            int action = random.nextInt(10);
+            if (action == 0) {
+                engine.pause(now);
+                now += random.nextInt(60_000);
+                engine.resume(now);
+            } else if (action < 3) {
+                engine.skip(now);
+            } else if (action < 6) {
+                engine.wordGuessed(now);
+            } else {
+                now += random.nextInt(20_000);
+                engine.advanceTo(now);
+            }
+        }
+        return log;
+    }
+
+    @Test
+    public void recordsReadBack() throws IOException {
+        GameLog log = new GameLog(RULES, 3, 2);
+        log.append(GameLog.TURN_STARTED, 0, log.seatOf(1, 1), 42);
+        log.append(GameLog.WORD_SKIPPED, 20_500, log.seatOf(1, 1), 7);
+        log.append(GameLog.PAUSED, 21_000, -1, -1);
+        log.append(GameLog.GAME_OVER, 300_000, 2, -1);
+
+        GameLog.Reader reader = new GameLog.Reader(log.toByteArray(), log.size());
+        assertEquals(3, reader.getTeamCount());
+        assertEquals(2, reader.getPlayersPerTeam());
+        assertEquals(45_000, reader.getRules().getBombTimeMillis());
+
+        assertTrue(reader.next());
+        assertEquals(GameLog.TURN_STARTED, reader.getType());
+        assertEquals(0, reader.getTime());
+        assertEquals(4, reader.getSeat());
+        assertEquals(42, reader.getWordId());
+
+        assertTrue(reader.next());
+        assertEquals(GameLog.WORD_SKIPPED, reader.getType());
+        assertEquals(20_500, reader.getTime());
+        assertEquals(7, reader.getWordId());
+
+        assertTrue(reader.next());
+        assertEquals(GameLog.PAUSED, reader.getType());
+        assertEquals(21_000, reader.getTime());
+        assertEquals(-1, reader.getSeat());
+
+        assertTrue(reader.next());
+        assertEquals(GameLog.GAME_OVER, reader.getType());
+        assertEquals(300_000, reader.getTime());
+        assertEquals(2, reader.getSeat());
+
+        assertFalse(reader.next());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void timeNeverGoesBack() {
+        GameLog log = new GameLog(RULES, 2, 2);
+        log.append(GameLog.TURN_STARTED, 1_000, 0, 0);
+        log.append(GameLog.WORD_GUESSED, 999, 0, -1);
+    }
+
+    @Test(expected = IOException.class)
+    public void notALog() throws IOException {
+        new GameLog.Reader(new byte[]{1, 2, 3, 4, 5}, 5);
+    }
+
+    @Test
+    public void tornLastRecord_endsTheLog() throws IOException {
+        GameLog log = new GameLog(RULES, 2, 2);
+        log.append(GameLog.TURN_STARTED, 0, 0, 0);
+        int whole = log.size();
+        log.append(GameLog.WORD_SKIPPED, 1_000_000, 0, 100_000);
+
+        byte[] bytes = log.toByteArray();
+        for (int cut = whole; cut < bytes.length; cut++) {
+            GameLog.Reader reader = new GameLog.Reader(bytes, cut);
+            assertTrue(reader.next());
+            assertFalse("cut at " + cut, reader.next());
+        }
+    }
+
+    @Test
+    public void pendingBytes_addUpToTheLog() {
+        GameLog log = new GameLog(RULES, 2, 2);
+        byte[] header = log.takePending();
+        log.append(GameLog.TURN_STARTED, 0, 0, 5);
+        byte[] rest = log.takePending();
+
+        assertEquals(log.size(), header.length + rest.length);
+        assertEquals(0, log.takePending().length);
+    }
+
+    @Test
+    public void aFewBytesPerEvent() {
+        GameLog log = playLogged(7, new Trace());
+        GameLog empty = new GameLog(RULES, 4, 2);
+        double perEvent = (double) (log.size() - empty.size()) / log.getRecordCount();
+
+        assertTrue(log.getRecordCount() > 50);
+        assertTrue("bytes per event: " + perEvent, perEvent < 5);
+    }
+
+    @Test
+    public void replay_reproducesTheGame() throws IOException {
+        for (long seed = 1; seed <= 50; seed++) {
+            Trace played = new Trace();
+            GameLog log = playLogged(seed, played);
+
+            GameReplay replay = new GameReplay(log.toByteArray(), log.size());
+            Trace replayed = new Trace();
+            replay.getEngine().setListener(new GameEngine.Listener() {
+                // Hand the trace the word the log says was dealt
+                private void word() {
+                    replayed.wordId = replay.getWordId();
+                }
+
+                @Override
+                public void onTurnStarted(int team, int player) {
+                    word();
+                    replayed.onTurnStarted(team, player);
+                }
+
+                @Override
+                public void onWordGuessed(int team, long timeSpentMillis) {
+                    replayed.onWordGuessed(team, timeSpentMillis);
+                }
+
+                @Override
+                public void onTurnPassed(int team, int player) {
+                    word();
+                    replayed.onTurnPassed(team, player);
+                }
+
+                @Override
+                public void onWordSkipped(int team) {
+                    word();
+                    replayed.onWordSkipped(team);
+                }
+
+                @Override
+                public void onSkipReady() {
+                    replayed.onSkipReady();
+                }
+
+                @Override
+                public void onBombExploded(int team, long timeSpentMillis, long penaltyMillis) {
+                    replayed.onBombExploded(team, timeSpentMillis, penaltyMillis);
+                }
+
+                @Override
+                public void onTeamEliminated(int team) {
+                    replayed.onTeamEliminated(team);
+                }
+
+                @Override
+                public void onWaitingForTurn(int team, int player) {
+                    replayed.onWaitingForTurn(team, player);
+                }
+
+                @Override
+                public void onGameOver(int winnerTeam) {
+                    replayed.onGameOver(winnerTeam);
+                }
+
+                @Override
+                public void onPaused() {
+                    replayed.onPaused();
+                }
+
+                @Override
+                public void onResumed() {
+                    replayed.onResumed();
+                }
+            });
+
+            // In uneven steps, as a replay at some speed would
+            for (long time = 0; !replay.isFinished(); time += 1_700) {
+                replay.advanceTo(time);
+            }
+
+            assertEquals("seed " + seed, played.events, replayed.events);
+            assertTrue(replay.getEngine().isOver());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.dor.engine;
+
+import com.example.dor.models.GameMode;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class GameSimulatorTest {
+
+    private static final GuessTimes PARTY = GuessTimes.logNormal(0.6, 6_000, 10_000, 16_000);
+
+    private static GameSimulator simulator(GameMode mode, int players) {
+        GameSimulator simulator = new GameSimulator(mode.getRules(), players / 2, 2, PARTY);
+        simulator.setLevelWeights(mode.getDifficultyWeights());
+        simulator.setSkipAfterMillis(15_000);
+        return simulator;
+    }
+
+    @Test
+    public void sameSeed_sameReport_howeverTheGamesAreSplit() {
+        GameSimulator simulator = simulator(GameMode.QUICK, 8);
+        SimulationReport parallel = simulator.run(3_000, 11);
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            SimulationReport sequential = simulator.run(3_000, 11, single);
+            assertEquals(sequential.toString(), parallel.toString());
+            assertArrayEquals(sequential.getLengthHistogram(), parallel.getLengthHistogram());
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    public void everyGameHasOneWinner_andEveryOtherTeamGoesOutOnce() {
+        SimulationReport report = simulator(GameMode.PROFESSIONAL, 10).run(2_000, 3);
+
+        assertEquals(2_000, report.getGames());
+        double wins = 0;
+        for (int team = 0; team < 5; team++) {
+            wins += report.getWinRate(team);
+        }
+        assertEquals(1.0, wins, 1e-9);
+
+        for (int order = 0; order < 4; order++) {
+            double out = 0;
+            for (int team = 0; team < 5; team++) {
+                out += report.getEliminationRate(team, order);
+            }
+            assertEquals(1.0, out, 1e-9);
+        }
+        assertTrue(report.getMinLengthMillis() > 0);
+        assertTrue(report.getLengthPercentileMillis(0.5) <= report.getLengthPercentileMillis(0.9));
+    }
+
+    @Test
+    public void wordsNobodyGuesses_burnTheFirstTeamDown() {
+        // Nobody ever guesses, so team 0 holds the bomb: 90s -> 50s -> 10s -> out on time
+        GameSimulator simulator = new GameSimulator(GameMode.QUICK.getRules(), 2, 2, GuessTimes.fixed(60_000));
+        SimulationReport report = simulator.run(10, 1);
+
+        assertEquals(3.0, report.getRoundsPerGame(), 0);
+        assertEquals(2.0, report.getExplosionsPerGame(), 0);
+        assertEquals(1.0, report.getWinRate(1), 0);
+        assertEquals(60_000, report.getMinLengthMillis());
+        assertEquals(60_000, report.getMaxLengthMillis());
+    }
+
+    @Test
+    public void largeParties() {
+        for (GameMode mode : GameMode.values()) {
+            for (int players = 8; players <= 10; players += 2) {
+                int teams = players / 2;
+                SimulationReport report = simulator(mode, players).run(500, 2024);
+
+                assertEquals(500, report.getGames());
+                double wins = 0;
+                for (int team = 0; team < teams; team++) {
+                    wins += report.getWinRate(team);
+                }
+                assertEquals(mode + ", " + players + " players", 1.0, wins, 1e-9);
+                // Every game knocks out all but one team, one explosion or timeout at a time
+                assertTrue(report.getRoundsPerGame() >= teams - 1);
+                assertTrue(report.getMinLengthMillis() <= report.getLengthPercentileMillis(0.5));
+                assertTrue(report.getLengthPercentileMillis(0.5) <= report.getLengthPercentileMillis(0.9));
+                assertTrue(report.getLengthPercentileMillis(0.9) <= report.getMaxLengthMillis());
+            }
+        }
+    }
+}
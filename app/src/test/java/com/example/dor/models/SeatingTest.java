@@ -0,0 +1,72 @@
+package com.example.dor.models;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SeatingTest {
+
+    private static List<Team> teams(String... colors) {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < colors.length; i++) {
+            teams.add(new Team(i, colors[i], 60_000));
+        }
+        return teams;
+    }
+
+    @Test
+    public void seats_goRoundTheTeamsThenThePlayers() {
+        List<Team> teams = teams("#B71C1C", "#0D47A1", "#1B5E20");
+        for (int i = 0; i < 6; i++) {
+            teams.get(i % 3).addPlayer(new Player("p" + i, i % 3));
+        }
+        Seating seating = new Seating(teams, 2);
+
+        assertEquals(6, seating.size());
+        for (int seat = 0; seat < 6; seat++) {
+            assertEquals("p" + seat, seating.getName(seat));
+            assertEquals(seat % 3, seating.getTeam(seat));
+            assertEquals(seat / 3, seating.getPlayer(seat));
+            assertEquals(seat, seating.seatOf(seating.getTeam(seat), seating.getPlayer(seat)));
+        }
+        assertEquals(0xFF0D47A1, seating.getColor(4));
+        assertEquals(seating.getTeamColor(1), seating.getColor(1));
+    }
+
+    @Test
+    public void sameNames_keepTheirOwnSeats() {
+        List<Team> teams = teams("#B71C1C", "#0D47A1");
+        for (int i = 0; i < 4; i++) {
+            teams.get(i % 2).addPlayer(new Player("Ali", i % 2));
+        }
+        Seating seating = new Seating(teams, 2);
+
+        assertEquals(0xFFB71C1C, seating.getColor(2));
+        assertEquals(0xFF0D47A1, seating.getColor(3));
+    }
+
+    @Test
+    public void missingPlayers_leaveEmptySeats() {
+        List<Team> teams = teams("#B71C1C", "#0D47A1");
+        teams.get(0).addPlayer(new Player("a", 0));
+        Seating seating = new Seating(teams, 2);
+
+        assertEquals(4, seating.size());
+        assertEquals("a", seating.getName(0));
+        assertEquals("", seating.getName(3));
+    }
+
+    @Test
+    public void parseColor_readsAlpha() {
+        assertEquals(0x800D47A1, Seating.parseColor("#800D47A1"));
+        assertEquals(0xFF000000, Seating.parseColor("#000000"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseColor_rejectsNames() {
+        Seating.parseColor("red");
+    }
+}
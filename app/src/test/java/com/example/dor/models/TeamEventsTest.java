@@ -0,0 +1,65 @@
+package com.example.dor.models;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TeamEventsTest {
+
+    @Test
+    public void eventsReadBackInOrder() {
+        TeamEvents events = new TeamEvents();
+        events.addWordGuessed(12, 4_000);
+        events.addBombExploded(30, 9_500, 15_000);
+
+        assertEquals(2, events.size());
+        assertEquals(TeamEvents.WORD_GUESSED, events.getType(0));
+        assertEquals(12, events.getWordId(0));
+        assertEquals(4_000, events.getTimeSpentMillis(0));
+        assertEquals(0, events.getPenaltyMillis(0));
+        assertEquals(TeamEvents.BOMB_EXPLODED, events.getType(1));
+        assertEquals(30, events.getWordId(1));
+        assertEquals(15_000, events.getPenaltyMillis(1));
+    }
+
+    @Test
+    public void totalsFollowEachEvent() {
+        TeamEvents events = new TeamEvents();
+        assertEquals(0, events.getAverageGuessMillis());
+
+        events.addWordGuessed(1, 3_000);
+        events.addWordGuessed(2, 9_000);
+        events.addBombExploded(3, 20_000, 10_000);
+        events.addWordGuessed(4, 6_000);
+        events.addBombExploded(5, 1_000, 10_000);
+
+        assertEquals(3, events.getWordsGuessed());
+        assertEquals(2, events.getBombsExploded());
+        assertEquals(6_000, events.getAverageGuessMillis());
+        // Explosions are not guesses, however long they took
+        assertEquals(9_000, events.getMaxGuessMillis());
+        assertEquals(20_000, events.getTotalPenaltyMillis());
+    }
+
+    @Test
+    public void growsPastItsInitialCapacity() {
+        TeamEvents events = new TeamEvents();
+        for (int i = 0; i < 1_000; i++) {
+            events.addWordGuessed(i, i);
+        }
+        assertEquals(1_000, events.size());
+        assertEquals(999, events.getWordId(999));
+        assertEquals(999, events.getMaxGuessMillis());
+    }
+
+    @Test
+    public void clear_startsOver() {
+        TeamEvents events = new TeamEvents();
+        events.addBombExploded(1, 5_000, 10_000);
+        events.clear();
+
+        assertTrue(events.isEmpty());
+        assertEquals(0, events.getBombsExploded());
+        assertEquals(0, events.getTotalPenaltyMillis());
+    }
+}
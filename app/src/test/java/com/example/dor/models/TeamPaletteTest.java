@@ -0,0 +1,55 @@
+package com.example.dor.models;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TeamPaletteTest {
+
+    private static double distance(String first, String second) {
+        double[] a = TeamPalette.toOklab(Seating.parseColor(first));
+        double[] b = TeamPalette.toOklab(Seating.parseColor(second));
+        double dl = a[0] - b[0];
+        double da = a[1] - b[1];
+        double db = a[2] - b[2];
+        return Math.sqrt(dl * dl + da * da + db * db);
+    }
+
+    @Test
+    public void smallGames_keepTheClassicColors() {
+        assertArrayEquals(new String[]{"#B71C1C", "#0D47A1", "#1B5E20"}, TeamPalette.generate(3));
+        assertEquals(5, TeamPalette.generate(5).length);
+    }
+
+    @Test
+    public void largeParties_getDistinctColors() {
+        for (int teams = 6; teams <= 20; teams++) {
+            String[] colors = TeamPalette.generate(teams);
+            assertEquals(teams, colors.length);
+            double closest = Double.MAX_VALUE;
+            for (int i = 0; i < teams; i++) {
+                for (int j = i + 1; j < teams; j++) {
+                    closest = Math.min(closest, distance(colors[i], colors[j]));
+                }
+            }
+            assertTrue(teams + " teams, closest pair " + closest, closest > 0.04);
+        }
+    }
+
+    @Test
+    public void whiteText_staysReadable() {
+        for (String color : TeamPalette.generate(20)) {
+            double contrast = 1.05 / (TeamPalette.luminance(Seating.parseColor(color)) + 0.05);
+            assertTrue(color + " contrast " + contrast, contrast >= 3);
+        }
+    }
+
+    @Test
+    public void oklab_roundTrips() {
+        double[] lab = TeamPalette.toOklab(0xFF336699);
+        int[] rgb = TeamPalette.oklchToRgb(lab[0], Math.toDegrees(Math.atan2(lab[2], lab[1])));
+        // Most saturated color of the same lightness and hue: same lightness, same hue family
+        double[] back = TeamPalette.toOklab(0xFF000000 | rgb[0] << 16 | rgb[1] << 8 | rgb[2]);
+        assertEquals(lab[0], back[0], 0.01);
+    }
+}
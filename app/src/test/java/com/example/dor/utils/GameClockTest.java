@@ -0,0 +1,154 @@
+package com.example.dor.utils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GameClockTest {
+
+    private static final long MS = 1_000_000L;
+
+    private long time;
+    private Runnable pending;
+    private long pendingAt;
+    private final List<String> events = new ArrayList<>();
+    private int secondsChanges;
+    private GameClock clock;
+
+    @Before
+    public void setUp() {
+        time = 5_000 * MS; // Arbitrary boot time
+        clock = new GameClock(new GameClock.Listener() {
+            @Override
+            public void onSecondsChanged() {
+                secondsChanges++;
+            }
+
+            @Override
+            public void onTick() {
+                events.add("tick@" + clock.getElapsedMillis());
+            }
+
+            @Override
+            public void onSkipReady() {
+                events.add("skip@" + clock.getElapsedMillis());
+            }
+
+            @Override
+            public void onBombExploded() {
+                events.add("bomb@" + clock.getElapsedMillis());
+                clock.stopAll();
+            }
+
+            @Override
+            public void onTeamTimeUp() {
+                events.add("team@" + clock.getElapsedMillis());
+                clock.stopAll();
+            }
+        }, () -> time, new GameClock.Scheduler() {
+            @Override
+            public void schedule(Runnable task, long delayNanos) {
+                pending = task;
+                pendingAt = time + delayNanos;
+            }
+
+            @Override
+            public void cancel(Runnable task) {
+                pending = null;
+            }
+        });
+    }
+
+    @Test
+    public void bomb_explodesExactlyAtDeadline_withOneWakeupPerSecond() {
+        clock.startBomb(90_000);
+        clock.startTeam(200_000);
+        clock.startTicks();
+        runFor(120_000);
+
+        assertEquals("bomb@90000", events.get(events.size() - 1));
+        // 90 bomb seconds plus 90 ticks share the same boundaries; team seconds are
+        // aligned too here, so one wakeup per second (plus the first tick)
+        assertEquals(91, clock.getWakeups());
+        assertEquals(91, countPrefix("tick@"));
+        assertEquals(91, secondsChanges);
+    }
+
+    @Test
+    public void misalignedCountdowns_stayFarBelowPolling() {
+        clock.startBomb(90_000);
+        runFor(250);
+        clock.startTeam(60_400);
+        runFor(333);
+        clock.startSkipCooldown(5_000);
+        clock.startTicks();
+        runFor(61_000);
+
+        assertEquals("team@60650", events.get(events.size() - 1));
+        // Four independent phases at most; a 100 ms poll would be 600 per minute
+        assertTrue(clock.getWakeupsPerMinute() < 250);
+    }
+
+    @Test
+    public void pause_freezesEveryDeadlineExactly() {
+        clock.startBomb(10_000);
+        clock.startTeam(30_000);
+        clock.startSkipCooldown(5_000);
+        runFor(3_500);
+
+        clock.pause();
+        long wakeupsBeforePause = clock.getWakeups();
+        time += 600_000 * MS; // Ten minutes in the background
+        assertNull(pending);
+        assertEquals(6_500, clock.getBombRemainingMillis());
+        assertEquals(26_500, clock.getTeamRemainingMillis());
+        clock.resume();
+        assertEquals(wakeupsBeforePause, clock.getWakeups());
+
+        runFor(1_499);
+        assertFalse(events.contains("skip@5000"));
+        runFor(1);
+        assertTrue(events.contains("skip@5000"));
+
+        runFor(10_000);
+        assertEquals("bomb@10000", events.get(events.size() - 1));
+    }
+
+    @Test
+    public void stopTeam_returnsUnspentBudget() {
+        clock.startTeam(40_000);
+        runFor(12_345);
+
+        assertEquals(27_655, clock.stopTeam());
+        assertFalse(clock.isTeamRunning());
+        assertEquals(0, clock.getTeamRemainingMillis());
+    }
+
+    /**
+     * Advance fake time, running the clock's wakeups when they fall due
+     */
+    private void runFor(long millis) {
+        long end = time + millis * MS;
+        while (pending != null && pendingAt <= end) {
+            time = pendingAt;
+            Runnable task = pending;
+            pending = null;
+            task.run();
+        }
+        time = end;
+    }
+
+    private int countPrefix(String prefix) {
+        int count = 0;
+        for (String event : events) {
+            if (event.startsWith(prefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
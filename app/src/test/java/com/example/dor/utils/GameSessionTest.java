@@ -0,0 +1,161 @@
+package com.example.dor.utils;
+
+import com.example.dor.data.WordRepository;
+import com.example.dor.engine.GameEngine;
+import com.example.dor.models.GameMode;
+import com.example.dor.models.Player;
+import com.example.dor.models.Team;
+import com.example.dor.models.TeamEvents;
+import com.example.dor.models.Word;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GameSessionTest {
+
+    private static final List<String> SELECTION = Arrays.asList("film", "sports", "food");
+    private static final int NEXT_WORDS = 30;
+
+    private GameManager gameManager;
+
+    @Before
+    public void setUp() throws IOException {
+        try (FileInputStream in = new FileInputStream("src/main/assets/words.json")) {
+            WordRepository.getInstance().loadCategories(in);
+        }
+        gameManager = GameManager.getInstance();
+        gameManager.initializeGame(6, GameMode.QUICK);
+        gameManager.setGameMode(GameMode.QUICK);
+        List<Team> teams = gameManager.getTeams();
+        for (int i = 0; i < 6; i++) {
+            teams.get(i % 3).addPlayer(new Player("player " + i, i % 3));
+        }
+        WordRepository.getInstance().prepareWordsForGame(SELECTION, 77L);
+    }
+
+    @After
+    public void tearDown() {
+        gameManager.reset();
+    }
+
+    /**
+     * Play a round and a bit: guesses, skips, a bomb going off, and a round
+     * left running
+     */
+    private GameEngine playSome() {
+        GameEngine engine = gameManager.startGame(new GameEngine.Listener() {
+        });
+        engine.startTurn(0);
+        engine.wordGuessed(4_000);
+        engine.advanceTo(30_000);
+        engine.skip(31_000);
+        engine.wordGuessed(35_000);
+        engine.advanceTo(200_000);
+        engine.startTurn(210_000);
+        engine.wordGuessed(218_000);
+        engine.advanceTo(225_000);
+        assertEquals(GameEngine.Phase.PLAYING, engine.getPhase());
+        return engine;
+    }
+
+    private List<String> nextWords() {
+        // Words seen after the snapshot would otherwise be skipped as recent
+        WordRepository.getInstance().clearRecentWords();
+        List<String> words = new ArrayList<>();
+        words.add(gameManager.getCurrentWord().getText());
+        for (int i = 0; i < NEXT_WORDS; i++) {
+            Word word = gameManager.nextWord();
+            words.add(word != null ? word.getText() : null);
+        }
+        return words;
+    }
+
+    @Test
+    public void restoredGame_carriesOnAsIfNeverStopped() {
+        GameEngine played = playSome();
+        byte[] snapshot = gameManager.saveSession();
+        long bombRemaining = played.getBombRemainingMillis();
+        int team = played.getCurrentTeam();
+        int player = played.getCurrentPlayer();
+        long[] remaining = new long[3];
+        int[] guessed = new int[3];
+        for (int i = 0; i < 3; i++) {
+            remaining[i] = played.getTeamRemainingMillis(i);
+            guessed[i] = gameManager.getTeams().get(i).getEvents().getWordsGuessed();
+        }
+        byte[] log = gameManager.getGameLog().toByteArray();
+        List<String> words = nextWords();
+
+        gameManager.reset();
+        assertTrue(gameManager.restoreSession(snapshot));
+        assertTrue(gameManager.isRestoringWords());
+        gameManager.restoreWords();
+        GameEngine restored = gameManager.resumeGame(new GameEngine.Listener() {
+        });
+
+        assertEquals(GameEngine.Phase.PLAYING, restored.getPhase());
+        assertEquals(team, restored.getCurrentTeam());
+        assertEquals(player, restored.getCurrentPlayer());
+        assertEquals(bombRemaining, restored.getBombRemainingMillis());
+        assertEquals(played.getTime(), restored.getTime());
+        for (int i = 0; i < 3; i++) {
+            Team restoredTeam = gameManager.getTeams().get(i);
+            assertEquals(remaining[i], restored.getTeamRemainingMillis(i));
+            assertEquals(played.isEliminated(i), restoredTeam.isEliminated());
+            assertEquals(2, restoredTeam.getPlayers().size());
+            assertEquals(guessed[i], restoredTeam.getEvents().getWordsGuessed());
+        }
+        assertArrayEquals(log, gameManager.getGameLog().toByteArray());
+        assertEquals(words, nextWords());
+    }
+
+    @Test
+    public void restoredGame_keepsLogging() {
+        playSome();
+        byte[] snapshot = gameManager.saveSession();
+
+        gameManager.reset();
+        assertTrue(gameManager.restoreSession(snapshot));
+        gameManager.restoreWords();
+        int records = gameManager.getGameLog().getRecordCount();
+        GameEngine engine = gameManager.resumeGame(new GameEngine.Listener() {
+        });
+        int team = engine.getCurrentTeam();
+        TeamEvents events = gameManager.getTeams().get(team).getEvents();
+        int guessed = events.getWordsGuessed();
+        engine.wordGuessed(226_000);
+
+        // The guess and the bomb passing on
+        assertEquals(records + 2, gameManager.getGameLog().getRecordCount());
+        assertEquals(guessed + 1, events.getWordsGuessed());
+    }
+
+    @Test
+    public void snapshot_staysSmall() {
+        playSome();
+        byte[] snapshot = gameManager.saveSession();
+
+        assertTrue("snapshot is " + snapshot.length + " bytes", snapshot.length < 4096);
+    }
+
+    @Test
+    public void notASnapshot_isRejected() {
+        playSome();
+        byte[] snapshot = gameManager.saveSession();
+
+        assertFalse(gameManager.restoreSession(null));
+        assertFalse(gameManager.restoreSession(new byte[]{1, 2, 3}));
+        assertFalse(gameManager.restoreSession(Arrays.copyOf(snapshot, snapshot.length / 2)));
+        // The game being played is left alone
+        assertEquals(GameEngine.Phase.PLAYING, gameManager.getEngine().getPhase());
+    }
+}
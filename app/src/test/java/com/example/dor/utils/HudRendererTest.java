@@ -0,0 +1,142 @@
+package com.example.dor.utils;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+public class HudRendererTest {
+
+    /**
+     * Keeps the last text the way TextView does, by holding on to the
+     * buffer, and counts how often the view was touched
+     */
+    private static final class FakeTarget implements HudRenderer.TextTarget {
+        char[] text;
+        int length;
+        int color;
+        int textUpdates;
+        int colorUpdates;
+
+        @Override
+        public void setText(char[] source, int length) {
+            this.text = source;
+            this.length = length;
+            textUpdates++;
+        }
+
+        @Override
+        public void setTextColor(int color) {
+            this.color = color;
+            colorUpdates++;
+        }
+
+        String text() {
+            return new String(text, 0, length);
+        }
+    }
+
+    private final FakeTarget bomb = new FakeTarget();
+    private final FakeTarget skip = new FakeTarget();
+    private final FakeTarget team = new FakeTarget();
+    private final HudRenderer renderer = new HudRenderer(bomb, skip, new HudRenderer.TextTarget[]{team});
+
+    @Test
+    public void formatsWithPersianDigits() {
+        renderer.renderBomb(90_000);
+        renderer.renderTeam(0, 125_000);
+        renderer.renderSkipCooldown(4_200);
+
+        assertEquals("💣 ۹۰", bomb.text());
+        assertEquals("۲:۰۵", team.text());
+        assertEquals("رد کردن (۵)", skip.text());
+        assertEquals(HudRenderer.BOMB_YELLOW, bomb.color);
+
+        renderer.renderTeam(0, 0);
+        assertEquals("۰:۰۰", team.text());
+    }
+
+    @Test
+    public void everyTeam_keepsItsOwnText() {
+        FakeTarget first = new FakeTarget();
+        FakeTarget second = new FakeTarget();
+        HudRenderer teams = new HudRenderer(bomb, skip, new HudRenderer.TextTarget[]{first, second});
+
+        teams.renderTeam(0, 125_000);
+        teams.renderTeam(1, 61_000);
+
+        assertEquals("۲:۰۵", first.text());
+        assertEquals("۱:۰۱", second.text());
+    }
+
+    @Test
+    public void viewsAreTouchedOnlyWhenTheSecondChanges() {
+        // 100 ms ticks across a whole 90 s bomb
+        for (long millis = 90_000; millis >= 0; millis -= 100) {
+            renderer.renderBomb(millis);
+        }
+
+        assertEquals(91, bomb.textUpdates);
+        assertEquals(3, bomb.colorUpdates); // Yellow, orange, red
+        assertEquals(HudRenderer.BOMB_RED, bomb.color);
+        assertEquals("💣 ۰", bomb.text());
+    }
+
+    @Test
+    public void invalidate_forcesRedraw() {
+        renderer.renderSkipCooldown(3_000);
+        renderer.renderSkipCooldown(3_000);
+        assertEquals(1, skip.textUpdates);
+
+        renderer.invalidateSkip();
+        renderer.renderSkipCooldown(3_000);
+        assertEquals(2, skip.textUpdates);
+    }
+
+    @Test
+    public void steadyStateTicks_allocateNothing() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        Assume.assumeTrue(allocations.isThreadAllocatedMemorySupported());
+        allocations.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+
+        // Warm up so the loop is compiled and class loading is done
+        runTicks(20_000);
+        runTicks(20_000);
+
+        long overhead = allocations.getThreadAllocatedBytes(thread);
+        overhead = allocations.getThreadAllocatedBytes(thread) - overhead;
+
+        long before = allocations.getThreadAllocatedBytes(thread);
+        int updates = runTicks(100_000);
+        long allocated = allocations.getThreadAllocatedBytes(thread) - before - overhead;
+
+        assertTrue(updates > 0);
+        assertEquals(0, allocated);
+    }
+
+    /**
+     * A round of 100 ms ticks: bomb, team and skip countdowns all running
+     *
+     * @return how many view updates happened
+     */
+    private int runTicks(int ticks) {
+        int startUpdates = bomb.textUpdates + team.textUpdates + skip.textUpdates;
+        long bombMillis = 90_000;
+        long teamMillis = 165_000;
+        long skipMillis = 5_000;
+        for (int i = 0; i < ticks; i++) {
+            renderer.renderBomb(bombMillis);
+            renderer.renderTeam(0, teamMillis);
+            renderer.renderSkipCooldown(skipMillis);
+            bombMillis = bombMillis > 0 ? bombMillis - 100 : 90_000;
+            teamMillis = teamMillis > 0 ? teamMillis - 100 : 165_000;
+            skipMillis = skipMillis > 0 ? skipMillis - 100 : 5_000;
+        }
+        return bomb.textUpdates + team.textUpdates + skip.textUpdates - startUpdates;
+    }
+}
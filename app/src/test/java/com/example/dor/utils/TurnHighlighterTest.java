@@ -0,0 +1,57 @@
+package com.example.dor.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TurnHighlighterTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private final TurnHighlighter highlighter = new TurnHighlighter(
+            (index, highlighted) -> calls.add((highlighted ? "+" : "-") + index));
+
+    @Test
+    public void passingTheTurn_touchesTwoItems() {
+        highlighter.moveTo(0);
+        assertEquals(List.of("+0"), calls);
+
+        calls.clear();
+        highlighter.moveTo(7);
+        assertEquals(List.of("-0", "+7"), calls);
+        assertEquals(7, highlighter.getCurrent());
+    }
+
+    @Test
+    public void sameIndex_touchesNothing() {
+        highlighter.moveTo(3);
+        calls.clear();
+
+        highlighter.moveTo(3);
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void none_clearsTheHighlight() {
+        highlighter.moveTo(2);
+        highlighter.moveTo(TurnHighlighter.NONE);
+        assertEquals(List.of("+2", "-2"), calls);
+
+        calls.clear();
+        highlighter.moveTo(TurnHighlighter.NONE);
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void afterReset_highlightsAgain() {
+        highlighter.moveTo(4);
+        calls.clear();
+
+        // The target redrew everything plain
+        highlighter.reset();
+        highlighter.moveTo(4);
+        assertEquals(List.of("+4"), calls);
+    }
+}
@@ -0,0 +1,78 @@
+import java.util.Properties
+
+/*
+ * JMH benchmarks for the game's pure-Java hot paths, run on the desktop JVM.
+ *
+ *   ./gradlew :benchmark:jmh
+ *
+ * Results are written to benchmark/build/results/jmh/results.json. Pick
+ * benchmarks with -PjmhIncludes=<regex>, e.g. -PjmhIncludes=GameManager.
+ */
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// The benchmarked classes are compiled straight from the app's sources
+val appSources = project(":app").layout.projectDirectory.dir("src/main/java")
+
+sourceSets {
+    main {
+        java {
+            srcDir(appSources)
+            include(
+                "com/example/dor/data/**",
+                "com/example/dor/engine/**",
+                "com/example/dor/models/**",
+                "com/example/dor/utils/AppExecutors.java",
+                "com/example/dor/utils/GameManager.java",
+                "com/example/dor/utils/SessionRandom.java",
+            )
+        }
+    }
+}
+
+// Android's stub jar only satisfies the few framework types the data layer
+// names; benchmarks never reach code that calls into it
+val androidSdkDir: String = run {
+    val localProperties = rootProject.file("local.properties")
+    val properties = Properties()
+    if (localProperties.exists()) {
+        localProperties.inputStream().use { properties.load(it) }
+    }
+    properties.getProperty("sdk.dir")
+        ?: System.getenv("ANDROID_HOME")
+        ?: System.getenv("ANDROID_SDK_ROOT")
+        ?: error("Android SDK not found: set sdk.dir in local.properties or ANDROID_HOME")
+}
+val androidJar = files("$androidSdkDir/platforms/android-36/android.jar")
+
+dependencies {
+    implementation(libs.gson)
+    compileOnly(androidJar)
+    runtimeOnly(androidJar)
+    jmh(libs.jmh.core)
+    jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+}
+
+// WordPackBenchmark loads the shipped word bank and the pack the app compiles from it
+val wordsJson = project(":app").layout.projectDirectory.file("src/main/assets/words.json")
+val wordPack = project(":app").layout.buildDirectory.file("generated/wordpack/assets/words.pack")
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+    jvmArgsAppend.add("-Ddor.wordsJson=${wordsJson.asFile.absolutePath}")
+    jvmArgsAppend.add(wordPack.map { "-Ddor.wordPack=${it.asFile.absolutePath}" })
+}
+
+tasks.named("jmh") {
+    dependsOn(":app:generateWordPack")
+}
@@ -0,0 +1,64 @@
+package com.example.dor.benchmark;
+
+import com.example.dor.engine.GameEngine;
+import com.example.dor.engine.GameRules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw state machine throughput: whole games of taps, guesses and skips at
+ * random intervals, played back to back
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineBenchmark {
+
+    private static final GameRules RULES = new GameRules(60_000, 20_000, 15_000, 5_000);
+
+    private final int[] delays = new int[4096];
+    private GameEngine engine;
+    private long now;
+    private int step;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = random.nextInt(1, 6_000);
+        }
+        engine = new GameEngine(RULES, 5, 2);
+    }
+
+    /**
+     * One input: start the turn if it is waiting, otherwise mostly guess
+     * and sometimes skip. A finished game starts over.
+     */
+    @Benchmark
+    public long step() {
+        if (engine.isOver()) {
+            engine.reset();
+            now = 0;
+        }
+        now += delays[step++ & (delays.length - 1)];
+        if (!engine.startTurn(now) && ((step & 3) != 0 || !engine.skip(now))) {
+            engine.wordGuessed(now);
+        }
+        return engine.getTransitionCount();
+    }
+}
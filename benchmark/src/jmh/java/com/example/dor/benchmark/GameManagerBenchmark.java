@@ -0,0 +1,89 @@
+package com.example.dor.benchmark;
+
+import com.example.dor.engine.GameEngine;
+import com.example.dor.models.GameMode;
+import com.example.dor.models.Player;
+import com.example.dor.models.Team;
+import com.example.dor.utils.GameManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turn order queries during a round, by party size
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameManagerBenchmark {
+
+    // Players / players per team; only parties that fill every team, from
+    // the smallest real game of two pairs up to 40 players
+    @Param({"4/2", "10/2", "20/2", "40/2", "8/4", "20/4", "40/4"})
+    public String party;
+
+    private int playerCount;
+    private int playersPerTeam;
+
+    private GameManager gameManager;
+    private GameEngine engine;
+
+    @Setup
+    public void setUp() {
+        String[] sizes = party.split("/");
+        playerCount = Integer.parseInt(sizes[0]);
+        playersPerTeam = Integer.parseInt(sizes[1]);
+
+        gameManager = GameManager.getInstance();
+        gameManager.initializeGame(playerCount, playersPerTeam, GameMode.QUICK);
+
+        // Same seating as setPlayerNames, without its logging
+        List<Team> teams = gameManager.getTeams();
+        for (int player = 0; player < playersPerTeam; player++) {
+            for (int team = 0; team < teams.size(); team++) {
+                int number = player * teams.size() + team + 1;
+                teams.get(team).addPlayer(new Player("Player " + number, team));
+            }
+        }
+
+        engine = gameManager.startGame(new GameEngine.Listener() {
+        });
+        engine.startTurn(0);
+    }
+
+    /**
+     * A guess passes the bomb to the next team; this is what
+     * GameManager.moveToNextTeam used to do. No time passes, so the round
+     * never ends.
+     */
+    @Benchmark
+    public int moveToNextTeam() {
+        engine.wordGuessed(0);
+        return engine.getCurrentTeam();
+    }
+
+    @Benchmark
+    public String getNextPlayerName() {
+        return gameManager.getNextPlayerName();
+    }
+
+    @Benchmark
+    public boolean isGameOver() {
+        return gameManager.isGameOver();
+    }
+}
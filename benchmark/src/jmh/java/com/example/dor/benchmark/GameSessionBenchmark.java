@@ -0,0 +1,88 @@
+package com.example.dor.benchmark;
+
+import com.example.dor.data.WordRepository;
+import com.example.dor.engine.GameEngine;
+import com.example.dor.models.GameMode;
+import com.example.dor.models.Player;
+import com.example.dor.models.Team;
+import com.example.dor.utils.GameManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bringing a game back after process death: reading the snapshot and
+ * rebuilding the word decks, as GameActivity does on relaunch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSessionBenchmark {
+
+    private File bank;
+    private GameManager gameManager;
+    private byte[] snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        bank = SyntheticWordBank.write(10_000, 42);
+        try (InputStream in = new FileInputStream(bank)) {
+            WordRepository.getInstance().loadCategories(in);
+        }
+
+        gameManager = GameManager.getInstance();
+        gameManager.initializeGame(6, GameMode.QUICK);
+        List<Team> teams = gameManager.getTeams();
+        for (int i = 0; i < 6; i++) {
+            teams.get(i % 3).addPlayer(new Player("Player " + (i + 1), i % 3));
+        }
+        List<String> categoryIds = SyntheticWordBank.categoryIds();
+        WordRepository.getInstance().prepareWordsForGame(categoryIds.subList(0, 3), 77L);
+
+        // A round and a bit in, with a round still running
+        GameEngine engine = gameManager.startGame(new GameEngine.Listener() {
+        });
+        engine.startTurn(0);
+        engine.wordGuessed(4_000);
+        engine.skip(31_000);
+        engine.wordGuessed(35_000);
+        engine.advanceTo(200_000);
+        engine.startTurn(210_000);
+        engine.wordGuessed(218_000);
+        engine.advanceTo(225_000);
+        snapshot = gameManager.saveSession();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gameManager.reset();
+        bank.delete();
+    }
+
+    @Benchmark
+    public boolean restore() {
+        boolean restored = gameManager.restoreSession(snapshot);
+        gameManager.restoreWords();
+        return restored;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.dor.benchmark;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Writes word banks of any size in the words.json format
+ */
+final class SyntheticWordBank {
+
+    static final int CATEGORY_COUNT = 24;
+
+    // Persian letters, so text lengths and UTF-8 sizes look like the real bank
+    private static final String LETTERS = "ابپتثجچحخدذرزژسشصضطظعغفقکگلمنوهی";
+
+    private SyntheticWordBank() {
+    }
+
+    static List<String> categoryIds() {
+        List<String> ids = new ArrayList<>(CATEGORY_COUNT);
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            ids.add("category" + i);
+        }
+        return ids;
+    }
+
+    /**
+     * Write a bank of the given number of words, spread evenly over
+     * {@link #CATEGORY_COUNT} categories, to a temporary file
+     */
+    static File write(int wordCount, long seed) throws IOException {
+        File file = File.createTempFile("words-" + wordCount + "-", ".json");
+        file.deleteOnExit();
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder text = new StringBuilder(24);
+
+        try (JsonWriter out = new JsonWriter(new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), StandardCharsets.UTF_8), 1 << 16))) {
+            out.beginArray();
+            int written = 0;
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                String id = "category" + c;
+                out.beginObject();
+                out.name("id").value(id);
+                out.name("name").value("دسته " + c);
+                out.name("emoji").value("🎲");
+                out.name("words").beginArray();
+
+                int end = (int) ((long) wordCount * (c + 1) / CATEGORY_COUNT);
+                for (; written < end; written++) {
+                    out.beginObject();
+                    out.name("text").value(word(random, text, written));
+                    out.name("category").value(id);
+                    out.name("difficulty").value(1 + random.nextInt(3));
+                    out.endObject();
+                }
+                out.endArray();
+                out.endObject();
+            }
+            out.endArray();
+        }
+        return file;
+    }
+
+    /**
+     * One or two random words, made unique by the word's number
+     */
+    private static String word(SplittableRandom random, StringBuilder text, int number) {
+        text.setLength(0);
+        int parts = random.nextInt(4) == 0 ? 2 : 1;
+        for (int p = 0; p < parts; p++) {
+            if (p > 0) {
+                text.append(' ');
+            }
+            int length = 3 + random.nextInt(6);
+            for (int i = 0; i < length; i++) {
+                text.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+            }
+        }
+        return text.append(' ').append(number).toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.dor.benchmark;
+
+import com.example.dor.data.WordBankParser;
+import com.example.dor.data.WordPack;
+import com.example.dor.models.Category;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading the shipped word bank: streaming words.json against mapping the
+ * words.pack compiled from it. Both files come from the app module; the
+ * build passes their paths in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordPackBenchmark {
+
+    private File wordsJson;
+    private File wordPack;
+
+    @Setup
+    public void setUp() {
+        wordsJson = new File(System.getProperty("dor.wordsJson"));
+        wordPack = new File(System.getProperty("dor.wordPack"));
+        if (!wordsJson.isFile() || !wordPack.isFile()) {
+            throw new IllegalStateException("Missing " + wordsJson + " or " + wordPack);
+        }
+    }
+
+    @Benchmark
+    public List<Category> parseJson() throws IOException {
+        try (FileInputStream in = new FileInputStream(wordsJson)) {
+            return WordBankParser.parse(in);
+        }
+    }
+
+    /**
+     * Map the pack and list its categories; words are materialized lazily,
+     * as in the app
+     */
+    @Benchmark
+    public List<Category> mapPack() throws IOException {
+        try (FileInputStream in = new FileInputStream(wordPack);
+             FileChannel channel = in.getChannel()) {
+            return WordPack.map(channel, 0, channel.size()).toCategories();
+        }
+    }
+}
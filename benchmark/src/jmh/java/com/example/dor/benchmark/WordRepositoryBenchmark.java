@@ -0,0 +1,123 @@
+package com.example.dor.benchmark;
+
+import com.example.dor.data.WordBankParser;
+import com.example.dor.data.WordRepository;
+import com.example.dor.models.Category;
+import com.example.dor.models.Word;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a word bank, preparing a game and dealing words, by bank size
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordRepositoryBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int wordCount;
+
+    private File bank;
+    private WordRepository repository;
+    private List<String> allCategories;
+    private List<String> halfCategories;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        bank = SyntheticWordBank.write(wordCount, 42);
+        repository = WordRepository.getInstance();
+        load();
+
+        allCategories = SyntheticWordBank.categoryIds();
+        halfCategories = allCategories.subList(0, allCategories.size() / 2);
+        repository.prepareWordsForGame(allCategories, seed);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bank.delete();
+    }
+
+    @Benchmark
+    public List<Category> loadCategories() throws IOException {
+        return load();
+    }
+
+    /**
+     * Startup parsing as it used to be: the whole file into a byte[] and a
+     * String, then bound with Gson
+     */
+    @Benchmark
+    public List<Category> parseWholeFile() throws IOException {
+        String json = new String(Files.readAllBytes(bank.toPath()), StandardCharsets.UTF_8);
+        Type listType = new TypeToken<List<Category>>() {}.getType();
+        return new Gson().fromJson(json, listType);
+    }
+
+    /**
+     * The same bank streamed through WordBankParser, without indexing it
+     */
+    @Benchmark
+    public List<Category> parseStreaming() throws IOException {
+        try (InputStream in = new FileInputStream(bank)) {
+            return WordBankParser.parse(in);
+        }
+    }
+
+    /**
+     * Alternates between two category selections, so the selected ids are
+     * rebuilt every time, as when players pick different categories
+     */
+    @Benchmark
+    public int prepareWordsForGame() {
+        seed++;
+        repository.prepareWordsForGame((seed & 1) == 0 ? allCategories : halfCategories, seed);
+        return repository.getRemainingWordsCount();
+    }
+
+    @Benchmark
+    public Word getNextWord() {
+        Word word = repository.getNextWord();
+        if (word == null) {
+            repository.prepareWordsForGame(allCategories, ++seed);
+            word = repository.getNextWord();
+        }
+        return word;
+    }
+
+    private List<Category> load() throws IOException {
+        try (InputStream in = new FileInputStream(bank)) {
+            repository.loadCategories(in);
+        }
+        return repository.getCategories();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.dor.data;
+
+import com.example.dor.models.CustomWord;
+import com.google.gson.Gson;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of saving one custom word edit, by how many words are saved: the
+ * append-only journal against rewriting the whole list as JSON, as the
+ * storage did before it.
+ *
+ * Lives in the data package for the store's file-based constructor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomWordStoreBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int wordCount;
+
+    private File dir;
+    private CustomWordStore store;
+    private List<CustomWord> words;
+    private final Gson gson = new Gson();
+    private File blob;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = File.createTempFile("words", "");
+        dir.delete();
+        dir.mkdirs();
+        store = new CustomWordStore(new File(dir, CustomWordStore.FILE_NAME), null, Runnable::run);
+        store.load();
+        words = new ArrayList<>(wordCount + 1);
+        for (int i = 1; i <= wordCount; i++) {
+            CustomWord word = word(i);
+            store.add(word);
+            words.add(word);
+        }
+        blob = new File(dir, "custom_words.json");
+        nextId = wordCount + 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    /**
+     * Add a word and delete it again, so the list keeps its size; dead
+     * records are compacted away as in the app
+     */
+    @Benchmark
+    public void journal() {
+        CustomWord word = word(nextId++);
+        store.add(word);
+        store.remove(word);
+    }
+
+    /**
+     * The same two edits, each serializing and rewriting every word
+     */
+    @Benchmark
+    public void rewriteWholeList() throws IOException {
+        words.add(word(nextId++));
+        writeBlob();
+        words.remove(words.size() - 1);
+        writeBlob();
+    }
+
+    private void writeBlob() throws IOException {
+        try (FileOutputStream out = new FileOutputStream(blob)) {
+            out.write(gson.toJson(words).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static CustomWord word(long id) {
+        return new CustomWord(id, "word" + id, "film", "فیلم و سریال");
+    }
+}
@@ -21,3 +21,4 @@ dependencyResolutionManagement {
 
 rootProject.name = "Dor"
 include(":app")
+include(":benchmark")